@@ -0,0 +1,82 @@
+package com.best.caltodocrud.api.common.mapper;
+
+import com.best.caltodocrud.api.summary.dto.SummaryRequestDto;
+import com.best.caltodocrud.api.summary.dto.SummaryResponseDto;
+import com.best.caltodocrud.api.todo.dto.TodoResponse;
+import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
+import com.best.caltodocrud.domain.SummaryResult;
+import com.best.caltodocrud.domain.Todo;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 경계의 DTO 변환 비용 (할 일 목록 크기별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int todos;
+
+    private List<Todo> domainTodos;
+    private SummaryRequestDto request;
+    private SummaryResult result;
+
+    @Setup
+    public void setUp() {
+        domainTodos = new ArrayList<>(todos);
+        List<SummaryRequestDto.TodoItemDto> items = new ArrayList<>(todos);
+        for (int i = 0; i < todos; i++) {
+            String date = "2025-01-%02d".formatted(i % 28 + 1);
+            domainTodos.add(new Todo((long) i, "할 일 " + i, i % 2 == 0, LocalDate.parse(date)));
+
+            SummaryRequestDto.TodoItemDto item = new SummaryRequestDto.TodoItemDto();
+            item.setId(String.valueOf(i));
+            item.setText("할 일 " + i);
+            item.setDone(i % 2 == 0);
+            item.setDate(date);
+            items.add(item);
+        }
+        request = new SummaryRequestDto();
+        request.setFrom("2025-01-01");
+        request.setTo("2025-01-28");
+        request.setTodos(items);
+
+        result = SummaryResult.builder()
+                .title("이번 달 일정 요약")
+                .oneLine("회의와 마감이 고르게 있어요.")
+                .bullets("• 팀 회의\n• 보고서 마감")
+                .riskNote("특별한 주의사항 없음")
+                .freeText("전체적으로 무난한 한 달입니다.")
+                .build();
+    }
+
+    @Benchmark
+    public List<TodoResponse> toResponse() {
+        return domainTodos.stream().map(DtoMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public SummarizeScheduleCommand toCommand() {
+        return DtoMapper.toCommand(request);
+    }
+
+    @Benchmark
+    public SummarizeScheduleCommand toCommandFromDBData() {
+        return DtoMapper.toCommandFromDBData("2025-01-01", "2025-01-28", domainTodos);
+    }
+
+    @Benchmark
+    public SummaryResponseDto toDto() {
+        return DtoMapper.toDto(result);
+    }
+}
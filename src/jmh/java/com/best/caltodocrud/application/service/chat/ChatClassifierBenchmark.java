@@ -0,0 +1,53 @@
+package com.best.caltodocrud.application.service.chat;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 저장 시 메시지마다 실행되는 키워드 분류 비용
+ * - vocabulary=base: 기본 키워드 표, large: 가상의 동의어 2,000개를 더한 표 (스캔 비용이 키워드 수와 무관한지 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatClassifierBenchmark {
+
+    @Param({"short", "long"})
+    String length;
+
+    @Param({"base", "large"})
+    String vocabulary;
+
+    private String message;
+    private KeywordClassifier classifier;
+
+    @Setup
+    public void setUp() throws IOException {
+        String base = "이번 주 일정 중에 미완료된 할 일을 요약해서 정리해줘";
+        message = "short".equals(length) ? base : (base + " 그리고 Today meeting notes 도 확인 부탁해. ").repeat(20);
+
+        List<KeywordClassifier.Rule> rules = new ArrayList<>(
+                KeywordClassifier.parse(new ClassPathResource("chat/keywords.txt")));
+        if ("large".equals(vocabulary)) {
+            for (int i = 0; i < 200; i++) {
+                List<String> synonyms = new ArrayList<>();
+                for (int k = 0; k < 10; k++) synonyms.add("동의어" + i + "-" + k);
+                rules.add(new KeywordClassifier.Rule(0, "synthetic-" + i, synonyms));
+            }
+        }
+        classifier = new KeywordClassifier(rules);
+    }
+
+    @Benchmark
+    public KeywordClassifier.Classification classify() {
+        return classifier.classify(message);
+    }
+}
@@ -0,0 +1,59 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.ai.converter.BeanOutputConverter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요약 응답 파싱 비용 (모델 출력 형태별)
+ * - beanOutputConverter: 스키마 변환 (정상 응답 경로, 잘린 출력이면 예외)
+ * - incrementalParser: 관대한 증분 파서 (설명 문장/잘린 출력 복구 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtractJsonBenchmark {
+
+    private static final String JSON = """
+            {"title":"이번 주 일정 요약","oneLine":"회의와 마감이 몰려 있어요.",\
+            "bullets":"• 월요일 팀 회의\\n• 수요일 보고서 마감\\n• 금요일 회고",\
+            "riskNote":"수요일 마감 주의","freeText":"주 초반에 회의가 많고 중반에 마감이 있습니다."}""";
+
+    @Param({"plain", "fenced", "prose", "truncated"})
+    String shape;
+
+    private String raw;
+    private BeanOutputConverter<OpenAiChatClientAdapter.Payload> converter;
+
+    @Setup
+    public void setUp() {
+        converter = new BeanOutputConverter<>(OpenAiChatClientAdapter.Payload.class, new ObjectMapper());
+        raw = switch (shape) {
+            case "plain" -> JSON;
+            case "fenced" -> "```json\n" + JSON + "\n```";
+            case "prose" -> "요청하신 요약입니다.\n\n" + JSON + "\n\n도움이 되었길 바랍니다.";
+            case "truncated" -> JSON.substring(0, JSON.indexOf("\"riskNote\""));
+            default -> throw new IllegalArgumentException(shape);
+        };
+    }
+
+    @Benchmark
+    public Object beanOutputConverter() {
+        try {
+            return converter.convert(raw);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> incrementalParser() {
+        return new IncrementalJsonFieldParser().append(raw).fields(true);
+    }
+}
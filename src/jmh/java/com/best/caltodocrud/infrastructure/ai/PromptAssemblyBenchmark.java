@@ -0,0 +1,68 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import com.best.caltodocrud.domain.ChatConversation;
+import com.best.caltodocrud.domain.ChatMemory;
+import com.best.caltodocrud.domain.Todo;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 요청마다 실행되는 프롬프트 조립 비용 (BPE 토큰 카운트 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptAssemblyBenchmark {
+
+    @Param({"5", "50"})
+    int todos;
+
+    @Param({"0", "20"})
+    int historySize;
+
+    private OpenAiChatBotAdapter adapter;
+    private List<Todo> contextTodos;
+    private ChatMemory memory;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // buildMessages/buildSystemPrompt 는 ChatClient/리미터/지표를 쓰지 않음
+        adapter = new OpenAiChatBotAdapter(null, new JTokkitTokenCounter(), null, null, null);
+        Field budget = OpenAiChatBotAdapter.class.getDeclaredField("promptTokenBudget");
+        budget.setAccessible(true);
+        budget.setInt(adapter, 3000);
+
+        contextTodos = new ArrayList<>(todos);
+        for (int i = 0; i < todos; i++) {
+            contextTodos.add(new Todo((long) i, "팀 회의 자료 준비 및 공유 " + i, i % 3 == 0, LocalDate.of(2025, 1, 1)));
+        }
+        List<ChatConversation.ChatMessage> history = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            history.add(ChatConversation.ChatMessage.builder()
+                    .role(i % 2 == 0 ? "user" : "assistant")
+                    .content(i % 2 == 0 ? "오늘 뭐부터 하면 좋을까? " + i : "회의 자료부터 준비하세요. " + i)
+                    .build());
+        }
+        String summary = historySize == 0 ? null
+                : "사용자는 이번 주 금요일 발표 준비를 걱정하고 있으며, 오전에 집중 작업을 선호한다.";
+        memory = new ChatMemory(summary, history);
+    }
+
+    @Benchmark
+    public String buildSystemPrompt() {
+        return adapter.buildSystemPrompt(contextTodos, 2500);
+    }
+
+    @Benchmark
+    public OpenAiChatBotAdapter.AssembledPrompt buildMessages() {
+        return adapter.buildMessages("오늘 할 일 중에 급한 것 알려줘", memory, contextTodos);
+    }
+}
@@ -0,0 +1,180 @@
+package com.best.caltodocrud.infrastructure.persistence.jpa;
+
+import com.best.caltodocrud.domain.ChatConversation;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 저장/조회 시 Entity <-> Domain 매핑 비용 (메시지 수별)
+ * - toEntity: 헤더 + 메시지 행 변환 (저장 경로)
+ * - toDomain: 헤더 + 메시지 행에서 도메인 복원 (조회 경로, JSON 메타데이터를 타입으로 바로 바인딩)
+ * - toDomainMapTree: 이전 방식(Map<String,Object> 로 파싱 후 캐스팅) 기준선
+ * - toDomainHeaderOnly / toDomainLast20: 부분 조회(헤더만 / 최근 20개) 시 매핑 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatConversationMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int messages;
+
+    private static final int RECENT = 20;
+
+    private ChatConversationMapper mapper;
+    private MapTreeBaseline baseline;
+    private ChatConversation conversation;
+    private ChatConversationEntity entity;
+    private List<ChatMessageEntity> messageEntities;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        mapper = new ChatConversationMapper(objectMapper);
+        baseline = new MapTreeBaseline(objectMapper);
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<ChatConversation.ChatMessage> list = new ArrayList<>(messages);
+        for (int i = 0; i < messages; i++) {
+            boolean user = i % 2 == 0;
+            list.add(ChatConversation.ChatMessage.builder()
+                    .id(UUID.randomUUID().toString())
+                    .role(user ? "user" : "assistant")
+                    .content(user ? "오늘 할 일 중에 급한 것 알려줘 " + i : "회의 준비와 보고서 작성이 급해요. " + i)
+                    .timestamp(now.plusSeconds(i))
+                    .metadata(user ? null : ChatConversation.MessageMetadata.builder()
+                            .model("gpt-4o-mini")
+                            .tokensUsed(128)
+                            .temperature(0.7)
+                            .responseTimeMs(850L)
+                            .summaryType("daily")
+                            .build())
+                    .build());
+        }
+        conversation = ChatConversation.builder()
+                .id(UUID.randomUUID())
+                .sessionId("session-2025-01-01")
+                .startedAt(now)
+                .lastMessageAt(now.plusSeconds(messages))
+                .status(ChatConversation.ConversationStatus.ACTIVE)
+                .messages(list)
+                .metadata(ChatConversation.ConversationMetadata.builder()
+                        .totalMessages(messages)
+                        .totalTokensUsed(messages * 64)
+                        .totalDurationMs(messages * 425L)
+                        .topicsDiscussed(List.of("today", "todo", "schedule"))
+                        .primaryIntent("query")
+                        .build())
+                .build();
+
+        entity = mapper.toEntity(conversation);
+        messageEntities = new ArrayList<>(messages);
+        for (ChatConversation.ChatMessage m : list) {
+            messageEntities.add(mapper.toMessageEntity(conversation.getId(), m));
+        }
+    }
+
+    @Benchmark
+    public void toEntity(Blackhole bh) {
+        bh.consume(mapper.toEntity(conversation));
+        for (ChatConversation.ChatMessage m : conversation.getMessages()) {
+            bh.consume(mapper.toMessageEntity(conversation.getId(), m));
+        }
+    }
+
+    @Benchmark
+    public ChatConversation toDomain() {
+        return mapper.toDomain(entity, messageEntities);
+    }
+
+    @Benchmark
+    public ChatConversation toDomainMapTree() throws Exception {
+        return baseline.toDomain(entity, messageEntities);
+    }
+
+    @Benchmark
+    public ChatConversation toDomainHeaderOnly() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public ChatConversation toDomainLast20() {
+        int size = messageEntities.size();
+        return mapper.toDomain(entity, messageEntities.subList(Math.max(0, size - RECENT), size));
+    }
+
+    /** Map 트리 경유 매핑 (typed 바인딩 이전 구현) */
+    static final class MapTreeBaseline {
+
+        private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {};
+
+        private final ObjectMapper objectMapper;
+
+        MapTreeBaseline(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        ChatConversation toDomain(ChatConversationEntity entity, List<ChatMessageEntity> messageEntities)
+                throws Exception {
+            ChatConversation domain = ChatConversation.builder()
+                    .id(entity.getId())
+                    .sessionId(entity.getSessionId())
+                    .startedAt(entity.getStartedAt())
+                    .lastMessageAt(entity.getLastMessageAt())
+                    .status(entity.getStatus())
+                    .build();
+
+            List<ChatConversation.ChatMessage> messages = new ArrayList<>(messageEntities.size());
+            for (ChatMessageEntity e : messageEntities) {
+                ChatConversation.ChatMessage message = ChatConversation.ChatMessage.builder()
+                        .id(e.getMessageId())
+                        .role(e.getRole())
+                        .content(e.getContent())
+                        .timestamp(e.getSentAt())
+                        .build();
+                if (e.getMetadata() != null && !e.getMetadata().isEmpty()) {
+                    Map<String, Object> m = objectMapper.readValue(e.getMetadata(), MAP);
+                    message.setMetadata(ChatConversation.MessageMetadata.builder()
+                            .model((String) m.get("model"))
+                            .tokensUsed((Integer) m.get("tokensUsed"))
+                            .temperature((Double) m.get("temperature"))
+                            .responseTimeMs(toLong(m.get("responseTimeMs")))
+                            .summaryType((String) m.get("summaryType"))
+                            .build());
+                }
+                messages.add(message);
+            }
+            domain.setMessages(messages);
+
+            Map<String, Object> json = objectMapper.readValue(entity.getMetadata(), MAP);
+            @SuppressWarnings("unchecked")
+            List<String> topics = json.get("topicsDiscussed") instanceof List<?> l ? (List<String>) l : new ArrayList<>();
+            domain.setMetadata(ChatConversation.ConversationMetadata.builder()
+                    .totalMessages((Integer) json.get("totalMessages"))
+                    .totalTokensUsed((Integer) json.get("totalTokensUsed"))
+                    .totalDurationMs(toLong(json.get("totalDurationMs")))
+                    .topicsDiscussed(topics)
+                    .primaryIntent((String) json.get("primaryIntent"))
+                    .build());
+            return domain;
+        }
+
+        private static Long toLong(Object value) {
+            if (value == null) return null;
+            if (value instanceof Number n) return n.longValue();
+            return Long.parseLong(value.toString());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.best.caltodocrud.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 모드의 "유지 가능한 최대 동시 채팅 수" 비교
+ *
+ * 단계마다 동시 사용자 수를 늘리며 각 사용자가 쉬지 않고 POST /api/chat/message 를 반복(closed loop).
+ * 동시에 GET /api/todos 를 한 사용자가 계속 호출해 CRUD 요청이 채팅 뒤에 밀리는지 측정.
+ * 오류율 1% 이하 + 채팅 p99 ≤ 스텁 지연 × 1.5 + 채팅 중 CRUD p99 ≤ 500ms 를 만족하는 가장 높은 단계를 "유지 가능"으로 봄.
+ *
+ * OpenAI 는 OpenAiStubServer 로 대체하고, 리미터 한도는 충분히 키워 스레드 모델만 비교.
+ * DB: LoadTestDatabase (LOADTEST_DB_URL 이 없으면 임베디드 PostgreSQL)
+ * 옵션(시스템 프로퍼티): bench.levels=50,100,200,400,800,1600  bench.stage=20s  bench.latency=2s  bench.modes=platform,virtual
+ * 가상 스레드 모드는 Java 21+ 에서만 실행 (./gradlew -PjavaVersion=21 chatConcurrencyBenchmark)
+ */
+public final class ChatConcurrencyBenchmark {
+
+    private static final double MAX_ERROR_RATE = 0.01;
+    private static final Duration CRUD_P99_LIMIT = Duration.ofMillis(500);
+
+    record StageResult(int concurrency, long ok, long errors, double throughput,
+                       long chatP50Ms, long chatP99Ms, long crudP99Ms, boolean sustainable) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] levels = Arrays.stream(System.getProperty("bench.levels", "50,100,200,400,800,1600").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        Duration stage = OpenAiStubServer.duration(System.getProperty("bench.stage", "20s"));
+        Duration latency = OpenAiStubServer.duration(System.getProperty("bench.latency", "2s"));
+        List<String> modes = List.of(System.getProperty("bench.modes", "platform,virtual").split(","));
+
+        List<String> report = new ArrayList<>();
+        try (LoadTestDatabase db = LoadTestDatabase.start();
+             OpenAiStubServer stub = OpenAiStubServer.builder()
+                     .latency(OpenAiStubServer.LatencyModel.fixed(latency))
+                     .start()) {
+            for (String mode : modes) {
+                boolean virtual = mode.trim().equals("virtual");
+                if (virtual && Runtime.version().feature() < 21) {
+                    report.add(mode + ": skipped (Java " + Runtime.version().feature() + ", needs 21+)");
+                    continue;
+                }
+                List<StageResult> results = runMode(virtual, db, stub, levels, stage, latency);
+                int max = results.stream().filter(StageResult::sustainable)
+                        .mapToInt(StageResult::concurrency).max().orElse(0);
+                report.add("%s: max sustainable concurrent chats = %d".formatted(mode.trim(), max));
+            }
+        }
+
+        System.out.println();
+        System.out.println("=== Summary (stub latency " + latency.toMillis() + "ms) ===");
+        report.forEach(System.out::println);
+    }
+
+    private static List<StageResult> runMode(boolean virtual, LoadTestDatabase db, OpenAiStubServer stub,
+                                             int[] levels, Duration stage, Duration latency) throws Exception {
+        try (LoadTestApp app = LoadTestApp.start(stub, db,
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--spring.ai.retry.max-attempts=1",
+                // 리미터가 아니라 스레드 모델을 재기 위해 한도를 사실상 해제
+                "--app.ai.limiter.requests-per-minute=100000000",
+                "--app.ai.limiter.tokens-per-minute=100000000000",
+                "--app.ai.limiter.chat.initial-limit=100000",
+                "--app.ai.limiter.chat.max-limit=100000",
+                "--app.ai.limiter.chat.max-queue=100000")) {
+            String base = app.baseUrl();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            String mode = virtual ? "virtual" : "platform";
+            System.out.printf("%n=== %s threads ===%n", mode);
+            System.out.printf("%8s %8s %8s %10s %10s %10s %10s %s%n",
+                    "conc", "ok", "errors", "chat/s", "p50(ms)", "p99(ms)", "crudP99", "sustainable");
+
+            List<StageResult> results = new ArrayList<>();
+            for (int concurrency : levels) {
+                StageResult r = runStage(client, base, concurrency, stage, latency);
+                results.add(r);
+                System.out.printf("%8d %8d %8d %10.1f %10d %10d %10d %s%n",
+                        r.concurrency(), r.ok(), r.errors(), r.throughput(),
+                        r.chatP50Ms(), r.chatP99Ms(), r.crudP99Ms(), r.sustainable() ? "yes" : "NO");
+                if (!r.sustainable()) break;
+            }
+            return results;
+        }
+    }
+
+    private static StageResult runStage(HttpClient client, String base, int concurrency,
+                                        Duration stage, Duration latency) throws Exception {
+        long deadline = System.nanoTime() + stage.toNanos();
+        AtomicLong ok = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong seq = new AtomicLong();
+        ConcurrentLinkedQueue<Long> chatLatencies = new ConcurrentLinkedQueue<>();
+
+        List<CompletableFuture<Void>> users = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            users.add(chatLoop(client, base, deadline, seq, ok, errors, chatLatencies));
+        }
+
+        // 채팅이 몰리는 동안 일반 CRUD 응답 시간
+        List<Long> crudLatencies = new ArrayList<>();
+        HttpRequest crud = HttpRequest.newBuilder(URI.create(base + "/api/todos?date=2000-01-01"))
+                .timeout(Duration.ofSeconds(30)).GET().build();
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                client.send(crud, HttpResponse.BodyHandlers.discarding());
+            } catch (Exception ignored) {
+                // 타임아웃도 지연으로 기록
+            }
+            crudLatencies.add(System.nanoTime() - start);
+            Thread.sleep(100);
+        }
+
+        CompletableFuture.allOf(users.toArray(CompletableFuture[]::new)).join();
+
+        List<Long> chat = new ArrayList<>(chatLatencies);
+        long total = ok.get() + errors.get();
+        double errorRate = total == 0 ? 1.0 : (double) errors.get() / total;
+        long chatP50 = percentileMs(chat, 0.50);
+        long chatP99 = percentileMs(chat, 0.99);
+        long crudP99 = percentileMs(crudLatencies, 0.99);
+        boolean sustainable = errorRate <= MAX_ERROR_RATE
+                && chatP99 <= latency.toMillis() * 3 / 2
+                && crudP99 <= CRUD_P99_LIMIT.toMillis();
+        return new StageResult(concurrency, ok.get(), errors.get(),
+                ok.get() / (double) stage.toSeconds(), chatP50, chatP99, crudP99, sustainable);
+    }
+
+    /** 한 사용자: 응답을 받자마자 다음 채팅 전송, 마감 시간까지 반복 */
+    private static CompletableFuture<Void> chatLoop(HttpClient client, String base, long deadline, AtomicLong seq,
+                                                    AtomicLong ok, AtomicLong errors,
+                                                    ConcurrentLinkedQueue<Long> latencies) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // 응답 캐시에 걸리지 않도록 메시지마다 고유 번호
+        String body = "{\"message\":\"벤치마크 메시지 #" + seq.incrementAndGet() + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/api/chat/message"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    latencies.add(System.nanoTime() - start);
+                    boolean success = failure == null
+                            && response.statusCode() == 200
+                            && response.body().contains("\"success\":true");
+                    (success ? ok : errors).incrementAndGet();
+                    return null;
+                })
+                .thenCompose(ignored -> chatLoop(client, base, deadline, seq, ok, errors, latencies));
+    }
+
+    private static long percentileMs(List<Long> nanos, double p) {
+        if (nanos.isEmpty()) return 0;
+        List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return Duration.ofNanos(sorted.get(Math.max(0, index))).toMillis();
+    }
+}
@@ -0,0 +1,57 @@
+package com.best.caltodocrud.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 엔드포인트별 응답 시간/성공·실패 수 기록
+ * - 측정 구간의 샘플을 모두 보관하고 리포트 시점에 정렬해 백분위 계산
+ */
+final class LatencyRecorder {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong errors = new AtomicLong();
+    private long[] samples = new long[1024];
+    private int size;
+
+    void record(long nanos, boolean success) {
+        if (!success) errors.incrementAndGet();
+        lock.lock();
+        try {
+            if (size == samples.length) samples = Arrays.copyOf(samples, size * 2);
+            samples[size++] = nanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Snapshot snapshot(Duration window) {
+        long[] sorted;
+        lock.lock();
+        try {
+            sorted = Arrays.copyOf(samples, size);
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(sorted);
+        return new Snapshot(sorted.length, errors.get(), sorted.length / (double) window.toSeconds(),
+                percentileMs(sorted, 0.50), percentileMs(sorted, 0.90), percentileMs(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    record Snapshot(long count, long errors, double throughput,
+                    double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+
+    private static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,179 @@
+package com.best.caltodocrud.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 엔드투엔드 부하 테스트
+ *
+ * OpenAiStubServer + PostgreSQL(임베디드 또는 LOADTEST_DB_URL) 위에 애플리케이션을 띄우고,
+ * 가상 사용자들이 쉬지 않고(closed loop) 가중치에 따라 아래 엔드포인트를 호출한 뒤
+ * 엔드포인트별 처리량과 지연 백분위(p50/p90/p99/max)를 출력.
+ *   todos   GET  /api/todos?date=
+ *   range   GET  /api/todos/range?from=&to=      (7일)
+ *   summary POST /api/summary                   (임의의 7일 구간 → 캐시/합류 효과 포함)
+ *   chat    POST /api/chat/message              (매번 다른 메시지 → 응답 캐시 미적중)
+ *
+ * 옵션(시스템 프로퍼티, ./gradlew loadTest -Dload.users=100 ...):
+ *   load.users=50  load.warmup=10s  load.duration=60s  load.mix=todos:40,range:30,summary:15,chat:15
+ *   load.days=60  load.todos-per-day=5  load.virtual=false
+ *   stub.latency=lognormal:800ms:3s  stub.stream-token-delay=20ms  stub.rate-limit-rate=0  stub.error-rate=0
+ */
+public final class LoadTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    private record Endpoint(String name, int weight) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("load.users", 50);
+        Duration warmup = OpenAiStubServer.duration(System.getProperty("load.warmup", "10s"));
+        Duration window = OpenAiStubServer.duration(System.getProperty("load.duration", "60s"));
+        int days = Integer.getInteger("load.days", 60);
+        int todosPerDay = Integer.getInteger("load.todos-per-day", 5);
+        List<Endpoint> mix = parseMix(System.getProperty("load.mix", "todos:40,range:30,summary:15,chat:15"));
+
+        OpenAiStubServer.Builder stubBuilder = OpenAiStubServer.builder()
+                .latency(OpenAiStubServer.LatencyModel.parse(System.getProperty("stub.latency", "lognormal:800ms:3s")))
+                .streamTokenDelay(OpenAiStubServer.duration(System.getProperty("stub.stream-token-delay", "20ms")))
+                .rateLimitRate(Double.parseDouble(System.getProperty("stub.rate-limit-rate", "0")))
+                .errorRate(Double.parseDouble(System.getProperty("stub.error-rate", "0")));
+
+        try (LoadTestDatabase db = LoadTestDatabase.start();
+             OpenAiStubServer stub = stubBuilder.start();
+             LoadTestApp app = LoadTestApp.start(stub, db,
+                     "--spring.threads.virtual.enabled=" + Boolean.getBoolean("load.virtual"))) {
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            String base = app.baseUrl();
+
+            System.out.printf("Seeding %d days x %d todos ...%n", days, todosPerDay);
+            seed(client, base, days, todosPerDay);
+
+            Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+            mix.forEach(e -> recorders.put(e.name(), new LatencyRecorder()));
+
+            System.out.printf("Running %d users: warmup %ds, measure %ds, mix %s%n",
+                    users, warmup.toSeconds(), window.toSeconds(), mix);
+            long measureFrom = System.nanoTime() + warmup.toNanos();
+            long deadline = measureFrom + window.toNanos();
+            AtomicLong seq = new AtomicLong();
+
+            List<CompletableFuture<Void>> running = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                running.add(userLoop(client, base, mix, days, recorders, seq, measureFrom, deadline));
+            }
+            CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).join();
+
+            System.out.println();
+            System.out.printf("%-8s %8s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "err%", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+            recorders.forEach((name, recorder) -> {
+                LatencyRecorder.Snapshot s = recorder.snapshot(window);
+                System.out.printf("%-8s %8d %7.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                        name, s.count(), s.errorRate() * 100, s.throughput(),
+                        s.p50Ms(), s.p90Ms(), s.p99Ms(), s.maxMs());
+            });
+            System.out.println("OpenAI stub: " + stub.stats());
+        }
+    }
+
+    private static CompletableFuture<Void> userLoop(HttpClient client, String base, List<Endpoint> mix, int days,
+                                                    Map<String, LatencyRecorder> recorders, AtomicLong seq,
+                                                    long measureFrom, long deadline) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Endpoint endpoint = pick(mix, random);
+        LocalDate from = FIRST_DAY.plusDays(random.nextInt(days));
+        Predicate<HttpResponse<String>> ok = r -> r.statusCode() == 200;
+
+        HttpRequest request = switch (endpoint.name()) {
+            case "todos" -> get(base + "/api/todos?date=" + from);
+            case "range" -> get(base + "/api/todos/range?from=" + from + "&to=" + from.plusDays(6));
+            case "summary" -> post(base + "/api/summary",
+                    "{\"from\":\"%s\",\"to\":\"%s\",\"todos\":[]}".formatted(from, from.plusDays(6)));
+            case "chat" -> {
+                ok = r -> r.statusCode() == 200 && r.body().contains("\"success\":true");
+                yield post(base + "/api/chat/message",
+                        "{\"message\":\"오늘 할 일 알려줘 #%d\"}".formatted(seq.incrementAndGet()));
+            }
+            default -> throw new IllegalArgumentException("Unknown endpoint: " + endpoint.name());
+        };
+
+        Predicate<HttpResponse<String>> success = ok;
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    if (start >= measureFrom) {
+                        recorders.get(endpoint.name())
+                                .record(System.nanoTime() - start, failure == null && success.test(response));
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> userLoop(client, base, mix, days, recorders, seq, measureFrom, deadline));
+    }
+
+    private static void seed(HttpClient client, String base, int days, int todosPerDay) throws Exception {
+        String[] texts = {"팀 회의", "보고서 작성", "운동", "장보기", "코드 리뷰", "병원 예약", "독서"};
+        for (int d = 0; d < days; d++) {
+            LocalDate date = FIRST_DAY.plusDays(d);
+            for (int i = 0; i < todosPerDay; i++) {
+                String body = "{\"text\":\"%s %d\",\"date\":\"%s\"}".formatted(texts[(d + i) % texts.length], i, date);
+                HttpResponse<Void> r = client.send(post(base + "/api/todos", body), HttpResponse.BodyHandlers.discarding());
+                if (r.statusCode() / 100 != 2) {
+                    throw new IllegalStateException("Seeding failed: HTTP " + r.statusCode());
+                }
+            }
+        }
+    }
+
+    private static Endpoint pick(List<Endpoint> mix, ThreadLocalRandom random) {
+        int total = mix.stream().mapToInt(Endpoint::weight).sum();
+        int roll = random.nextInt(total);
+        for (Endpoint e : mix) {
+            roll -= e.weight();
+            if (roll < 0) return e;
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private static List<Endpoint> parseMix(String spec) {
+        List<Endpoint> mix = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            int weight = Integer.parseInt(kv[1]);
+            if (weight > 0) mix.add(new Endpoint(kv[0], weight));
+        }
+        return mix;
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60)).GET().build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.best.caltodocrud.loadtest;
+
+import com.best.caltodocrud.CalTodoCrudApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스텁 OpenAI + 부하 테스트 DB 에 연결된 애플리케이션을 임의 포트로 기동
+ * - 명령행 인자로 넘기므로 application.properties / 환경변수보다 우선
+ */
+public final class LoadTestApp implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private LoadTestApp(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static LoadTestApp start(OpenAiStubServer stub, LoadTestDatabase db, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + db.url(),
+                "--spring.datasource.username=" + db.username(),
+                "--spring.datasource.password=" + db.password(),
+                "--app.ai.enabled=true",
+                "--spring.ai.openai.api-key=stub",
+                "--spring.ai.openai.base-url=" + stub.baseUrl(),
+                "--logging.level.root=WARN",
+                "--logging.level.com.best=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new LoadTestApp(new SpringApplicationBuilder(CalTodoCrudApplication.class)
+                .run(args.toArray(String[]::new)));
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
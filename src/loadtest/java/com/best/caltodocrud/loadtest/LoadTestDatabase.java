@@ -0,0 +1,53 @@
+package com.best.caltodocrud.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+
+/**
+ * 부하 테스트용 PostgreSQL
+ * - LOADTEST_DB_URL 이 있으면 그 DB 사용 (LOADTEST_DB_USER / LOADTEST_DB_PASSWORD)
+ * - 없으면 임베디드 PostgreSQL 을 띄우고 종료 시 정리
+ */
+public final class LoadTestDatabase implements AutoCloseable {
+
+    private final EmbeddedPostgres embedded;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private LoadTestDatabase(EmbeddedPostgres embedded, String url, String username, String password) {
+        this.embedded = embedded;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    public static LoadTestDatabase start() throws IOException {
+        String url = System.getenv("LOADTEST_DB_URL");
+        if (url != null && !url.isBlank()) {
+            return new LoadTestDatabase(null, url,
+                    System.getenv().getOrDefault("LOADTEST_DB_USER", "postgres"),
+                    System.getenv().getOrDefault("LOADTEST_DB_PASSWORD", "postgres"));
+        }
+        EmbeddedPostgres pg = EmbeddedPostgres.builder().start();
+        return new LoadTestDatabase(pg, pg.getJdbcUrl("postgres", "postgres"), "postgres", "postgres");
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public String password() {
+        return password;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (embedded != null) embedded.close();
+    }
+}
@@ -0,0 +1,306 @@
+package com.best.caltodocrud.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI 호환 Chat Completions 스텁 (POST /v1/chat/completions)
+ * - 일반 응답과 스트리밍(SSE chunk + [DONE]) 모두 지원
+ * - 지연 분포: fixed / uniform / lognormal (LatencyModel.parse 참고)
+ * - 오류 주입: 429(rate_limit_exceeded, 즉시 반환), 500(지연 후 반환)
+ * - usage(prompt/completion/total tokens) 포함, 스트리밍은 stream_options.include_usage 일 때만
+ * - 시스템 프롬프트에 "JSON"이 있으면 요약용 JSON 객체를, 아니면 짧은 대화 답변을 돌려줌
+ * - 스텁 자체가 병목이 되지 않도록 요청마다 스레드 사용
+ */
+public final class OpenAiStubServer implements AutoCloseable {
+
+    private static final String CHAT_REPLY = "오늘 일정은 세 건이에요. 오전 회의부터 차근차근 처리해 보세요!";
+    private static final String SUMMARY_REPLY = """
+            {"title":"이번 기간 일정 요약","oneLine":"회의와 개인 일정이 고르게 있어요.",\
+            "bullets":"• 팀 회의\\n• 보고서 작성\\n• 운동","riskNote":"특별한 주의사항 없음",\
+            "freeText":"전체적으로 무난한 일정입니다. 마감이 있는 일을 먼저 처리하세요."}""";
+
+    private final ObjectMapper om = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LatencyModel latency;
+    private final Duration streamTokenDelay;
+    private final double rateLimitRate;
+    private final double errorRate;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong streamed = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /** 응답 지연 분포 */
+    @FunctionalInterface
+    public interface LatencyModel {
+
+        Duration next(ThreadLocalRandom random);
+
+        static LatencyModel fixed(Duration d) {
+            return r -> d;
+        }
+
+        static LatencyModel uniform(Duration min, Duration max) {
+            return r -> Duration.ofNanos(r.nextLong(min.toNanos(), max.toNanos() + 1));
+        }
+
+        /** 중앙값과 p99로 지정하는 로그정규 분포 (LLM 응답 시간의 긴 꼬리 재현) */
+        static LatencyModel logNormal(Duration median, Duration p99) {
+            double mu = Math.log(median.toNanos());
+            double sigma = (Math.log(p99.toNanos()) - mu) / 2.326;
+            return r -> Duration.ofNanos((long) Math.exp(mu + sigma * r.nextGaussian()));
+        }
+
+        /** "fixed:2s", "uniform:200ms:2s", "lognormal:800ms:3s" */
+        static LatencyModel parse(String spec) {
+            String[] p = spec.trim().split(":");
+            return switch (p[0]) {
+                case "fixed" -> fixed(duration(p[1]));
+                case "uniform" -> uniform(duration(p[1]), duration(p[2]));
+                case "lognormal" -> logNormal(duration(p[1]), duration(p[2]));
+                default -> throw new IllegalArgumentException("Unknown latency model: " + spec);
+            };
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private LatencyModel latency = LatencyModel.fixed(Duration.ofSeconds(1));
+        private Duration streamTokenDelay = Duration.ofMillis(20);
+        private double rateLimitRate;
+        private double errorRate;
+
+        /** 일반 응답은 전체 지연, 스트리밍은 첫 토큰까지의 지연 */
+        public Builder latency(LatencyModel latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        public Builder streamTokenDelay(Duration streamTokenDelay) {
+            this.streamTokenDelay = streamTokenDelay;
+            return this;
+        }
+
+        public Builder rateLimitRate(double rateLimitRate) {
+            this.rateLimitRate = rateLimitRate;
+            return this;
+        }
+
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public OpenAiStubServer start() throws IOException {
+            return new OpenAiStubServer(this);
+        }
+    }
+
+    private OpenAiStubServer(Builder b) throws IOException {
+        this.latency = b.latency;
+        this.streamTokenDelay = b.streamTokenDelay;
+        this.rateLimitRate = b.rateLimitRate;
+        this.errorRate = b.errorRate;
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "openai-stub");
+            t.setDaemon(true);
+            return t;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.server.createContext("/v1/chat/completions", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String stats() {
+        return "requests=%d, streamed=%d, injected429=%d, injected500=%d"
+                .formatted(requests.get(), streamed.get(), rateLimited.get(), failed.get());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream in = exchange.getRequestBody()) {
+            JsonNode request = om.readTree(in.readAllBytes());
+            requests.incrementAndGet();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            double roll = random.nextDouble();
+            if (roll < rateLimitRate) {
+                rateLimited.incrementAndGet();
+                exchange.getResponseHeaders().set("retry-after", "1");
+                sendError(exchange, 429, "rate_limit_exceeded", "requests",
+                        "Rate limit reached for gpt-4o-mini (stub)");
+                return;
+            }
+
+            Thread.sleep(latency.next(random).toMillis());
+            if (roll < rateLimitRate + errorRate) {
+                failed.incrementAndGet();
+                sendError(exchange, 500, null, "server_error", "The server had an error (stub)");
+                return;
+            }
+
+            String content = isSummaryRequest(request) ? SUMMARY_REPLY : CHAT_REPLY;
+            int promptTokens = promptTokens(request);
+            if (request.path("stream").asBoolean(false)) {
+                streamed.incrementAndGet();
+                boolean includeUsage = request.path("stream_options").path("include_usage").asBoolean(false);
+                stream(exchange, content, promptTokens, includeUsage);
+            } else {
+                complete(exchange, content, promptTokens);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void complete(HttpExchange exchange, String content, int promptTokens) throws IOException {
+        ObjectNode body = envelope("chat.completion");
+        ObjectNode choice = body.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+        body.set("usage", usage(promptTokens, tokens(content)));
+
+        byte[] bytes = om.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void stream(HttpExchange exchange, String content, int promptTokens, boolean includeUsage)
+            throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            boolean first = true;
+            for (int i = 0; i < content.length(); i += 3) {
+                if (!first) Thread.sleep(streamTokenDelay.toMillis());
+                ObjectNode delta = om.createObjectNode();
+                if (first) delta.put("role", "assistant");
+                delta.put("content", content.substring(i, Math.min(content.length(), i + 3)));
+                writeChunk(out, chunk(delta, null));
+                first = false;
+            }
+            writeChunk(out, chunk(om.createObjectNode(), "stop"));
+            if (includeUsage) {
+                ObjectNode usageChunk = envelope("chat.completion.chunk");
+                usageChunk.putArray("choices");
+                usageChunk.set("usage", usage(promptTokens, tokens(content)));
+                writeChunk(out, usageChunk);
+            }
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    private ObjectNode chunk(ObjectNode delta, String finishReason) {
+        ObjectNode chunk = envelope("chat.completion.chunk");
+        ObjectNode choice = chunk.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.set("delta", delta);
+        choice.put("finish_reason", finishReason);
+        return chunk;
+    }
+
+    private void writeChunk(OutputStream out, ObjectNode chunk) throws IOException {
+        out.write(("data: " + om.writeValueAsString(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private ObjectNode envelope(String object) {
+        ObjectNode node = om.createObjectNode();
+        node.put("id", "chatcmpl-stub-" + requests.get());
+        node.put("object", object);
+        node.put("created", System.currentTimeMillis() / 1000);
+        node.put("model", "gpt-4o-mini");
+        return node;
+    }
+
+    private ObjectNode usage(int promptTokens, int completionTokens) {
+        ObjectNode usage = om.createObjectNode();
+        usage.put("prompt_tokens", promptTokens);
+        usage.put("completion_tokens", completionTokens);
+        usage.put("total_tokens", promptTokens + completionTokens);
+        return usage;
+    }
+
+    private void sendError(HttpExchange exchange, int status, String code, String type, String message)
+            throws IOException {
+        ObjectNode body = om.createObjectNode();
+        ObjectNode error = body.putObject("error");
+        error.put("message", message);
+        error.put("type", type);
+        error.putNull("param");
+        error.put("code", code);
+
+        byte[] bytes = om.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static boolean isSummaryRequest(JsonNode request) {
+        for (JsonNode m : request.path("messages")) {
+            if ("system".equals(m.path("role").asText()) && m.path("content").asText().contains("JSON")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int promptTokens(JsonNode request) {
+        int total = 0;
+        for (JsonNode m : request.path("messages")) {
+            total += tokens(m.path("content").asText()) + 4;
+        }
+        return total;
+    }
+
+    /** 대략적인 토큰 수 (한국어 기준 약 3자당 1토큰) */
+    private static int tokens(String text) {
+        return Math.max(1, (text.length() + 2) / 3);
+    }
+
+    /** "500ms", "2s", "1m" */
+    static Duration duration(String text) {
+        String t = text.trim();
+        if (t.endsWith("ms")) return Duration.ofMillis(Long.parseLong(t.substring(0, t.length() - 2)));
+        if (t.endsWith("s")) return Duration.ofSeconds(Long.parseLong(t.substring(0, t.length() - 1)));
+        if (t.endsWith("m")) return Duration.ofMinutes(Long.parseLong(t.substring(0, t.length() - 1)));
+        return Duration.ofMillis(Long.parseLong(t));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,83 @@
+-- todos 날짜 조회 전/후 비교 (1천만 행)
+--   이전: date VARCHAR(10), 인덱스 없음 (V3까지의 스키마)
+--   이후: date DATE + (date, id) 인덱스 (V4)
+-- 사용법: psql "$DB_URL" -f src/loadtest/sql/todo-date-range-benchmark.sql
+-- 별도 스키마(todo_bench)에 만들고 마지막에 지운다. 테이블 두 벌 생성에 수 분, 디스크 약 2GB 필요
+-- 각 쿼리는 두 번 실행하며 두 번째(캐시가 데워진 뒤) 결과의 Execution Time을 비교한다
+
+\set ON_ERROR_STOP on
+\timing on
+
+DROP SCHEMA IF EXISTS todo_bench CASCADE;
+CREATE SCHEMA todo_bench;
+SET search_path = todo_bench;
+
+-- 할 일은 등록 순서(id)와 무관하게 10년에 고르게 흩어진 날짜에 있다고 가정 (하루 약 2,700건)
+SELECT setseed(0.42);
+
+CREATE TABLE todos_before (
+    id         BIGSERIAL    PRIMARY KEY,
+    text       VARCHAR(200) NOT NULL,
+    done       BOOLEAN      NOT NULL,
+    date       VARCHAR(10)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+INSERT INTO todos_before (text, done, date, created_at, updated_at)
+SELECT 'todo ' || g,
+       g % 3 = 0,
+       to_char(DATE '2016-01-01' + (random() * 3652)::int, 'YYYY-MM-DD'),
+       now(),
+       now()
+FROM generate_series(1, 10000000) AS g;
+
+CREATE TABLE todos_after (
+    id         BIGINT       PRIMARY KEY,
+    text       VARCHAR(200) NOT NULL,
+    done       BOOLEAN      NOT NULL,
+    date       DATE         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+INSERT INTO todos_after
+SELECT id, text, done, to_date(date, 'YYYY-MM-DD'), created_at, updated_at
+FROM todos_before;
+
+CREATE INDEX idx_todos_after_date_id ON todos_after (date, id);
+
+VACUUM ANALYZE todos_before;
+VACUUM ANALYZE todos_after;
+
+-- ===== 하루 (findByDateOrderByIdAsc) =====
+\echo '--- day: before ---'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_before WHERE date = '2021-06-15' ORDER BY id;
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_before WHERE date = '2021-06-15' ORDER BY id;
+\echo '--- day: after ---'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_after WHERE date = DATE '2021-06-15' ORDER BY id;
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_after WHERE date = DATE '2021-06-15' ORDER BY id;
+
+-- ===== 1주 (findRange, 주간 요약/캘린더) =====
+\echo '--- week: before ---'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_before WHERE date BETWEEN '2021-06-14' AND '2021-06-20' ORDER BY date, id;
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_before WHERE date BETWEEN '2021-06-14' AND '2021-06-20' ORDER BY date, id;
+\echo '--- week: after ---'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_after WHERE date BETWEEN DATE '2021-06-14' AND DATE '2021-06-20' ORDER BY date, id;
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_after WHERE date BETWEEN DATE '2021-06-14' AND DATE '2021-06-20' ORDER BY date, id;
+
+-- ===== 1개월 (findRange, 월간 요약) =====
+\echo '--- month: before ---'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_before WHERE date BETWEEN '2021-06-01' AND '2021-06-30' ORDER BY date, id;
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_before WHERE date BETWEEN '2021-06-01' AND '2021-06-30' ORDER BY date, id;
+\echo '--- month: after ---'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_after WHERE date BETWEEN DATE '2021-06-01' AND DATE '2021-06-30' ORDER BY date, id;
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM todos_after WHERE date BETWEEN DATE '2021-06-01' AND DATE '2021-06-30' ORDER BY date, id;
+
+-- ===== 마이그레이션 자체 비용 (V4와 같은 ALTER) =====
+\echo '--- V4 migration on 10M rows ---'
+ALTER TABLE todos_before ALTER COLUMN date TYPE DATE USING to_date(date, 'YYYY-MM-DD');
+CREATE INDEX idx_todos_before_date_id ON todos_before (date, id);
+
+RESET search_path;
+DROP SCHEMA todo_bench CASCADE;
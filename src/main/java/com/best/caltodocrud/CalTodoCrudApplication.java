@@ -5,11 +5,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EntityScan(basePackages = "com.best.caltodocrud.infrastructure.persistence.jpa")
 @EnableJpaRepositories(basePackages = "com.best.caltodocrud.infrastructure.persistence.jpa")
 @EnableJpaAuditing
+@EnableScheduling
 public class CalTodoCrudApplication {
 
     public static void main(String[] args) {
@@ -1,19 +1,28 @@
 package com.best.caltodocrud.api.chat;
 
-import com.best.caltodocrud.api.chat.dto.ChatMessageDto;
 import com.best.caltodocrud.api.chat.dto.ChatRequestDto;
 import com.best.caltodocrud.api.chat.dto.ChatResponseDto;
 import com.best.caltodocrud.application.port.in.chat.ChatUseCase;
 import com.best.caltodocrud.application.port.in.todo.GetTodosUseCase;
 import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.exception.AiAuthenticationException;
+import com.best.caltodocrud.domain.exception.AiCallRejectedException;
+import com.best.caltodocrud.domain.exception.AiQuotaExceededException;
+import com.best.caltodocrud.domain.exception.AiRateLimitedException;
+import com.best.caltodocrud.domain.exception.AiServiceException;
+import com.best.caltodocrud.domain.exception.AiTimeoutException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/chat")
@@ -36,45 +45,91 @@ public class ChatController {
     @PostMapping("/message")
     public ChatResponseDto chat(@RequestBody @Valid ChatRequestDto request) {
         log.info("Chat request: {}", request.getMessage());
+        UUID conversationId = conversationIdOf(request);
         
         try {
             // 현재 날짜의 할 일 목록을 컨텍스트로 제공
-            String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            List<Todo> todayTodos = getTodosUseCase.findByDate(today);
+            List<Todo> todayTodos = getTodosUseCase.findByDate(LocalDate.now());
             
-            String response = chatUseCase.chat(request.getMessage(), request.getHistory(), todayTodos);
+            String response = chatUseCase.chat(conversationId, request.getMessage(), todayTodos);
             
             return ChatResponseDto.builder()
                     .message(response)
                     .timestamp(System.currentTimeMillis())
                     .success(true)
+                    .conversationId(conversationId.toString())
                     .build();
                     
         } catch (Exception e) {
             log.error("Chat failed: {}", e.getMessage(), e);
 
-            String errorMessage;
-            if (e.getMessage() != null) {
-                if (e.getMessage().contains("할당량이 초과")) {
-                    errorMessage = "OpenAI API 할당량이 초과되었습니다. 잠시 후 다시 시도해주세요.";
-                } else if (e.getMessage().contains("요청 한도 초과")) {
-                    errorMessage = "API 요청 한도가 초과되었습니다. 잠시 후 다시 시도해주세요.";
-                } else if (e.getMessage().contains("시간 초과")) {
-                    errorMessage = "응답 시간이 초과되었습니다. 다시 시도해주세요.";
-                } else if (e.getMessage().contains("unauthorized") || e.getMessage().contains("401")) {
-                    errorMessage = "API 키 인증에 실패했습니다. 설정을 확인해주세요.";
-                } else {
-                    errorMessage = "죄송합니다. 일시적인 오류가 발생했습니다: " + e.getMessage();
-                }
-            } else {
-                errorMessage = "죄송합니다. 일시적인 오류가 발생했습니다. 다시 시도해주세요.";
-            }
-
             return ChatResponseDto.builder()
-                    .message(errorMessage)
+                    .message(toErrorMessage(e))
                     .timestamp(System.currentTimeMillis())
                     .success(false)
+                    .conversationId(conversationId.toString())
                     .build();
         }
     }
+
+    /**
+     * SSE 스트리밍 대화
+     * - token: 도착한 토큰 조각 (message 필드)
+     * - done: 스트림 종료 (다음 요청에 보낼 conversationId 포함)
+     * - error: 실패 시 사용자용 오류 메시지
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChatResponseDto>> chatStream(@RequestBody @Valid ChatRequestDto request) {
+        log.info("Chat stream request: {}", request.getMessage());
+        UUID conversationId = conversationIdOf(request);
+
+        List<Todo> todayTodos = getTodosUseCase.findByDate(LocalDate.now());
+
+        return chatUseCase.chatStream(conversationId, request.getMessage(), todayTodos)
+                .map(token -> event("token", token, true, null))
+                .concatWith(Mono.fromSupplier(() -> event("done", "", true, conversationId)))
+                .onErrorResume(e -> {
+                    log.error("Chat stream failed: {}", e.getMessage(), e);
+                    return Mono.just(event("error", toErrorMessage(e), false, conversationId));
+                });
+    }
+
+    /** 요청의 대화 id, 없거나 형식이 잘못됐으면 새 대화 */
+    private static UUID conversationIdOf(ChatRequestDto request) {
+        String raw = request.getConversationId();
+        if (raw != null && !raw.isBlank()) {
+            try {
+                return UUID.fromString(raw.trim());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid conversationId '{}' - starting a new conversation", raw);
+            }
+        }
+        return UUID.randomUUID();
+    }
+
+    private static ServerSentEvent<ChatResponseDto> event(String name, String message, boolean success, UUID conversationId) {
+        return ServerSentEvent.builder(ChatResponseDto.builder()
+                        .message(message)
+                        .timestamp(System.currentTimeMillis())
+                        .success(success)
+                        .conversationId(conversationId != null ? conversationId.toString() : null)
+                        .build())
+                .event(name)
+                .build();
+    }
+
+    private String toErrorMessage(Throwable e) {
+        if (e instanceof AiQuotaExceededException) {
+            return "OpenAI API 할당량이 초과되었습니다. 잠시 후 다시 시도해주세요.";
+        } else if (e instanceof AiRateLimitedException || e instanceof AiCallRejectedException) {
+            return "API 요청 한도가 초과되었습니다. 잠시 후 다시 시도해주세요.";
+        } else if (e instanceof AiTimeoutException) {
+            return "응답 시간이 초과되었습니다. 다시 시도해주세요.";
+        } else if (e instanceof AiAuthenticationException) {
+            return "API 키 인증에 실패했습니다. 설정을 확인해주세요.";
+        } else if (e instanceof AiServiceException) {
+            return "AI 서비스에 일시적인 문제가 있습니다. 잠시 후 다시 시도해주세요.";
+        }
+        return "죄송합니다. 일시적인 오류가 발생했습니다. 다시 시도해주세요.";
+    }
 }
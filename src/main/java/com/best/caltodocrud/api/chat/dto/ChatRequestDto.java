@@ -6,8 +6,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 @Getter
 @Builder
 @NoArgsConstructor
@@ -17,5 +15,6 @@ public class ChatRequestDto {
     @NotBlank(message = "메시지는 필수입니다")
     private String message;
     
-    private List<ChatMessageDto> history;
+    /** 이전 응답에서 받은 대화 id (첫 메시지면 비워 둔다) - 이전 턴은 서버가 보관 */
+    private String conversationId;
 }
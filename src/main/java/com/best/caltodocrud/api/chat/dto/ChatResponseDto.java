@@ -13,4 +13,5 @@ public class ChatResponseDto {
     private String message;
     private Long timestamp;
     private Boolean success;
+    private String conversationId; // 다음 요청에 그대로 보낼 대화 id
 }
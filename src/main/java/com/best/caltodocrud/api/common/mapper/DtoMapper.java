@@ -1,5 +1,6 @@
 package com.best.caltodocrud.api.common.mapper;
 
+import com.best.caltodocrud.api.summary.dto.SummaryBatchResponseDto;
 import com.best.caltodocrud.api.summary.dto.SummaryRequestDto;
 import com.best.caltodocrud.api.summary.dto.SummaryResponseDto;
 import com.best.caltodocrud.api.todo.dto.TodoResponse;
@@ -7,6 +8,7 @@ import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleComma
 import com.best.caltodocrud.domain.SummaryResult;
 import com.best.caltodocrud.domain.Todo;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public final class DtoMapper {
@@ -18,6 +20,11 @@ public final class DtoMapper {
         return (id == null) ? "" : String.valueOf(id);
     }
 
+    /** API의 yyyy-MM-dd 문자열 -> LocalDate (형식이 틀리면 DateTimeParseException → 400) */
+    public static LocalDate toDate(String date) {
+        return LocalDate.parse(date.trim());
+    }
+
     private static Long toLongId(Object id) {
         if (id == null) return null;
         if (id instanceof Long l) return l;
@@ -38,7 +45,7 @@ public final class DtoMapper {
                 .id(toLongId(t.getId()))   // ✅ Long으로 변환
                 .text(t.getText())
                 .done(t.isDone())
-                .date(t.getDate())
+                .date(t.getDate().toString())
                 .build();
     }
 
@@ -68,7 +75,7 @@ public final class DtoMapper {
                         toStringId(t.getId()),   // ✅ Long이든 String이든 문자열로 통일
                         t.getText(),
                         t.isDone(),
-                        t.getDate()
+                        t.getDate().toString()
                 ))
                 .toList();
         return new SummarizeScheduleCommand(from, to, todos);
@@ -89,4 +96,16 @@ public final class DtoMapper {
                 .freeText(r.getFreeText())
                 .build();
     }
+
+    // =========================
+    // 배치 요약의 기간 하나 -> 응답 항목
+    // =========================
+    public static SummaryBatchResponseDto.ItemDto toBatchItem(String from, String to, SummaryResult r) {
+        return SummaryBatchResponseDto.ItemDto.builder()
+                .from(from)
+                .to(to)
+                .summary(toDto(r))
+                .fallback(r != null && r.isFallback())
+                .build();
+    }
 }
@@ -1,23 +1,47 @@
 package com.best.caltodocrud.api.error;
 
+import com.best.caltodocrud.domain.exception.AiCallRejectedException;
+import com.best.caltodocrud.domain.exception.AiRateLimitedException;
+import com.best.caltodocrud.domain.exception.AiServiceException;
+import com.best.caltodocrud.domain.exception.SummaryUnavailableException;
 import com.best.caltodocrud.domain.exception.TodoNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String TODO_UNIQUE_CONSTRAINT = "uq_todos_date_text";
+
     @ExceptionHandler(TodoNotFoundException.class)
     public ResponseEntity<ApiError> handleTodoNotFound(TodoNotFoundException ex, HttpServletRequest req) {
         return build(req, HttpStatus.NOT_FOUND, "TODO_NOT_FOUND", ex.getMessage());
     }
 
+    @ExceptionHandler(SummaryUnavailableException.class)
+    public ResponseEntity<ApiError> handleSummaryUnavailable(SummaryUnavailableException ex, HttpServletRequest req) {
+        return build(req, HttpStatus.SERVICE_UNAVAILABLE, "SUMMARY_UNAVAILABLE", ex.getMessage());
+    }
+
+    @ExceptionHandler({AiRateLimitedException.class, AiCallRejectedException.class})
+    public ResponseEntity<ApiError> handleAiRateLimited(AiServiceException ex, HttpServletRequest req) {
+        return build(req, HttpStatus.TOO_MANY_REQUESTS, "AI_RATE_LIMITED", ex.getMessage());
+    }
+
+    @ExceptionHandler(AiServiceException.class)
+    public ResponseEntity<ApiError> handleAiUnavailable(AiServiceException ex, HttpServletRequest req) {
+        return build(req, HttpStatus.SERVICE_UNAVAILABLE, "AI_UNAVAILABLE", ex.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiError> handleValidation(MethodArgumentNotValidException ex,
                                                      HttpServletRequest req) {
@@ -32,11 +56,44 @@ public class GlobalExceptionHandler {
         return build(req, HttpStatus.BAD_REQUEST, "CONSTRAINT_VIOLATION", ex.getMessage());
     }
 
+    // 같은 날짜에 같은 내용의 할 일은 하나만 (uq_todos_date_text) - 그 외 무결성 위반(길이/NOT NULL 등)은 500
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiError> handleConflict(DataIntegrityViolationException ex, HttpServletRequest req) {
+        if (violates(ex, TODO_UNIQUE_CONSTRAINT)) {
+            return build(req, HttpStatus.CONFLICT, "DUPLICATE_TODO", "같은 날짜에 같은 내용의 할 일이 이미 있습니다");
+        }
+        return handleAny(ex, req);
+    }
+
+    // 날짜는 yyyy-MM-dd 형식만 허용 (본문은 DtoMapper.toDate, 쿼리 파라미터는 @DateTimeFormat 변환)
+    @ExceptionHandler(DateTimeParseException.class)
+    public ResponseEntity<ApiError> handleDateFormat(DateTimeParseException ex, HttpServletRequest req) {
+        return build(req, HttpStatus.BAD_REQUEST, "INVALID_DATE", "date must be yyyy-MM-dd: " + ex.getParsedString());
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiError> handleTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest req) {
+        return build(req, HttpStatus.BAD_REQUEST, "INVALID_PARAMETER", ex.getName() + ": " + ex.getValue());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleAny(Exception ex, HttpServletRequest req) {
         return build(req, HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", ex.getMessage());
     }
 
+    /** 원인 체인에서 위반된 제약 이름을 찾는다 (Hibernate가 이름을 못 뽑은 경우 드라이버 메시지로 확인) */
+    private static boolean violates(Throwable ex, String constraint) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof org.hibernate.exception.ConstraintViolationException cve
+                    && constraint.equalsIgnoreCase(cve.getConstraintName())) {
+                return true;
+            }
+            if (t.getMessage() != null && t.getMessage().contains(constraint)) return true;
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+
     private ResponseEntity<ApiError> build(HttpServletRequest req, HttpStatus status, String code, String msg) {
         ApiError body = ApiError.builder()
                 .path(req.getRequestURI())
@@ -1,19 +1,24 @@
 package com.best.caltodocrud.api.summary;
 
 import com.best.caltodocrud.api.common.mapper.DtoMapper;
+import com.best.caltodocrud.api.summary.dto.SummaryBatchRequestDto;
+import com.best.caltodocrud.api.summary.dto.SummaryBatchResponseDto;
 import com.best.caltodocrud.api.summary.dto.SummaryRequestDto;
 import com.best.caltodocrud.api.summary.dto.SummaryResponseDto;
+import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
 import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleUseCase;
-import com.best.caltodocrud.application.port.in.todo.CreateTodoUseCase;
+import com.best.caltodocrud.api.todo.dto.TodoSyncRequest;
 import com.best.caltodocrud.application.port.in.todo.GetTodosUseCase;
+import com.best.caltodocrud.application.service.todo.TodoSyncService;
+import com.best.caltodocrud.domain.SummaryResult;
 import com.best.caltodocrud.domain.Todo;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -28,7 +33,7 @@ public class SummaryController {
 
     private final SummarizeScheduleUseCase summarizeUseCase;
     private final GetTodosUseCase getTodosUseCase;
-    private final CreateTodoUseCase createTodoUseCase;
+    private final TodoSyncService todoSyncService;
 
     @PostMapping("/summary")
     public SummaryResponseDto summarize(@RequestBody @Valid SummaryRequestDto body) {
@@ -49,29 +54,60 @@ public class SummaryController {
         return DtoMapper.toDto(summarizeUseCase.summarize(cmd));
     }
 
-    private void syncClientDataToDb(SummaryRequestDto body) {
-        Map<String, List<SummaryRequestDto.TodoItemDto>> byDate = body.getTodos().stream()
-                .collect(Collectors.groupingBy(SummaryRequestDto.TodoItemDto::getDate));
+    /**
+     * 여러 기간을 한 번에 요약 (대시보드의 주/월 카드 등)
+     * - 전체 기간을 DB에서 한 번만 조회한 뒤 기간별로 메모리에서 나눔
+     * - 결과는 요청 순서대로, AI 요약이 실패한 기간만 fallback=true
+     */
+    @PostMapping("/summary/batch")
+    public SummaryBatchResponseDto summarizeBatch(@RequestBody @Valid SummaryBatchRequestDto body) {
+        var ranges = body.getRanges();
+        String min = ranges.stream().map(SummaryBatchRequestDto.RangeDto::getFrom).min(Comparator.naturalOrder()).orElseThrow();
+        String max = ranges.stream().map(SummaryBatchRequestDto.RangeDto::getTo).max(Comparator.naturalOrder()).orElseThrow();
+        log.info("Summary batch request: {} ranges, {} ~ {}", ranges.size(), min, max);
+
+        var dbTodos = getTodosFromDb(min, max);
+        List<SummarizeScheduleCommand> commands = ranges.stream()
+                .map(r -> DtoMapper.toCommandFromDBData(r.getFrom(), r.getTo(), slice(dbTodos, r.getFrom(), r.getTo())))
+                .toList();
+
+        List<SummaryResult> results = summarizeUseCase.summarizeAll(commands);
+        List<SummaryBatchResponseDto.ItemDto> items = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            var r = ranges.get(i);
+            items.add(DtoMapper.toBatchItem(r.getFrom(), r.getTo(), results.get(i)));
+        }
+        return SummaryBatchResponseDto.builder().results(items).build();
+    }
 
-        byDate.forEach((date, items) -> {
-            try {
-                List<Todo> existing = getTodosUseCase.findByDate(date);
-                Set<String> texts = existing.stream().map(Todo::getText).collect(Collectors.toSet());
-                for (var c : items) {
-                    if (!texts.contains(c.getText())) {
-                        createTodoUseCase.create(c.getText(), date);
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("Sync fail for date={}", date, e);
-            }
-        });
+    private static List<Todo> slice(List<Todo> todos, String from, String to) {
+        LocalDate start = DtoMapper.toDate(from);
+        LocalDate end = DtoMapper.toDate(to);
+        return todos.stream()
+                .filter(t -> !t.getDate().isBefore(start) && !t.getDate().isAfter(end))
+                .toList();
+    }
+
+    /**
+     * 프론트가 보낸 할 일을 POST /api/todos/sync와 같은 (date, text) upsert로 반영
+     * 내용은 trim 후 비교되고, 잘못된 항목은 그 항목만 건너뛴다 (done이 없으면 미완료)
+     */
+    private void syncClientDataToDb(SummaryRequestDto body) {
+        List<TodoSyncRequest> items = body.getTodos().stream()
+                .map(c -> new TodoSyncRequest(c.getText(), c.getDate(), Boolean.TRUE.equals(c.getDone())))
+                .toList();
+        try {
+            todoSyncService.syncTodos(items);
+        } catch (Exception e) {
+            // 동기화에 실패해도 DB에 있는 데이터로 요약은 계속한다
+            log.warn("Summary sync failed for {} todos", items.size(), e);
+        }
     }
 
     private List<Todo> getTodosFromDb(String from, String to) {
         try {
-            if (Objects.equals(from, to)) return getTodosUseCase.findByDate(from);
-            return getTodosUseCase.findRange(from, to);
+            if (Objects.equals(from, to)) return getTodosUseCase.findByDate(DtoMapper.toDate(from));
+            return getTodosUseCase.findRange(DtoMapper.toDate(from), DtoMapper.toDate(to));
         } catch (Exception e) {
             log.error("DB fetch failed", e);
             return List.of();
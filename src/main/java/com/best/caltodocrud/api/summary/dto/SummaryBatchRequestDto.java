@@ -0,0 +1,21 @@
+package com.best.caltodocrud.api.summary.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SummaryBatchRequestDto {
+    @NotEmpty @Size(max = 50)
+    private List<@Valid RangeDto> ranges; // 요약할 기간 목록 (응답도 같은 순서)
+
+    @Data
+    public static class RangeDto {
+        @NotBlank private String from;
+        @NotBlank private String to;
+    }
+}
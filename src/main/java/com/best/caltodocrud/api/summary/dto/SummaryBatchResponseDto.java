@@ -0,0 +1,20 @@
+package com.best.caltodocrud.api.summary.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class SummaryBatchResponseDto {
+    private List<ItemDto> results; // 요청 ranges와 같은 순서
+
+    @Getter @Setter @Builder
+    @AllArgsConstructor @NoArgsConstructor
+    public static class ItemDto {
+        private String from;
+        private String to;
+        private SummaryResponseDto summary;
+        private boolean fallback; // AI 요약 실패로 규칙 기반 요약을 반환한 경우 true
+    }
+}
@@ -5,12 +5,21 @@ import com.best.caltodocrud.api.todo.dto.*;
 import com.best.caltodocrud.application.port.in.todo.*;
 import com.best.caltodocrud.application.service.todo.TodoSyncService;
 import com.best.caltodocrud.domain.Todo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/todos")
@@ -20,19 +29,27 @@ public class TodoController {
 
     private final CreateTodoUseCase createUC;
     private final UpdateTodoUseCase updateUC;
+    private final PatchTodoUseCase patchUC;
     private final DeleteTodoUseCase deleteUC;
     private final GetTodosUseCase getUC;
     private final TodoSyncService todoSyncService;
+    private final ObjectMapper objectMapper;
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @Value("${app.todo.export.page-size:1000}")
+    private int exportPageSize;
 
     @PostMapping
     public TodoResponse create(@RequestBody @Valid TodoCreateRequest req) {
         log.info("Creating todo: text={}, date={}", req.getText(), req.getDate());
-        Todo out = createUC.create(req.getText(), req.getDate());
+        Todo out = createUC.create(req.getText(), DtoMapper.toDate(req.getDate()));
         return DtoMapper.toResponse(out);
     }
 
     @GetMapping
-    public List<TodoResponse> findByDate(@RequestParam String date) {
+    public List<TodoResponse> findByDate(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         log.info("Finding todos by date: {}", date);
         var todos = getUC.findByDate(date).stream().map(DtoMapper::toResponse).toList();
         log.info("Found {} todos for date {}", todos.size(), date);
@@ -40,13 +57,102 @@ public class TodoController {
     }
 
     @GetMapping("/range")
-    public List<TodoResponse> range(@RequestParam String from, @RequestParam String to) {
+    public List<TodoResponse> range(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         log.info("Finding todos in range: {} to {}", from, to);
         var todos = getUC.findRange(from, to).stream().map(DtoMapper::toResponse).toList();
         log.info("Found {} todos in range", todos.size());
         return todos;
     }
 
+    /**
+     * 기간 내보내기 - (date, id) 키셋으로 page-size건씩 읽어 바로 써 내려간다 (결과 크기와 무관하게 한 페이지만 메모리에 둔다)
+     * format=ndjson(기본): 한 줄에 할 일 하나, format=json: 하나의 JSON 배열
+     */
+    @GetMapping("/range/stream")
+    public ResponseEntity<StreamingResponseBody> rangeStream(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                             @RequestParam(defaultValue = "ndjson") String format) {
+        boolean array = "json".equalsIgnoreCase(format);
+        if (!array && !"ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("Streaming todos in range: {} to {} ({})", from, to, array ? "json" : "ndjson");
+
+        StreamingResponseBody body = out -> {
+            int count = 0;
+            try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+                gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (array) {
+                    gen.writeStartArray();
+                } else {
+                    gen.setRootValueSeparator(null);
+                }
+
+                LocalDate afterDate = from;
+                long afterId = 0L;
+                List<Todo> page;
+                do {
+                    page = getUC.findRangeAfter(afterDate, afterId, to, exportPageSize);
+                    for (Todo t : page) {
+                        gen.writeObject(DtoMapper.toResponse(t));
+                        if (!array) gen.writeRaw('\n');
+                    }
+                    gen.flush();
+                    count += page.size();
+                    if (!page.isEmpty()) {
+                        Todo last = page.get(page.size() - 1);
+                        afterDate = last.getDate();
+                        afterId = last.getId();
+                    }
+                } while (page.size() == exportPageSize);
+
+                if (array) gen.writeEndArray();
+            }
+            log.info("Streamed {} todos in range", count);
+        };
+        return ResponseEntity.ok().contentType(array ? MediaType.APPLICATION_JSON : NDJSON).body(body);
+    }
+
+    /**
+     * 기간 조회 커서 페이지 - nextCursor를 다음 요청의 cursor로 넘기면 이어서 받는다
+     */
+    @GetMapping("/range/page")
+    public ResponseEntity<TodoPageResponse> rangePage(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "100") int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDate afterDate = from;
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            Optional<TodoCursor> decoded = TodoCursor.decode(cursor);
+            if (decoded.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+            // 커서가 from보다 앞이면 from부터
+            if (!decoded.get().date().isBefore(from)) {
+                afterDate = decoded.get().date();
+                afterId = decoded.get().id();
+            }
+        }
+
+        // 한 건 더 읽어 다음 페이지가 있는지 판단
+        List<Todo> todos = getUC.findRangeAfter(afterDate, afterId, to, limit + 1);
+        boolean hasNext = todos.size() > limit;
+        List<Todo> items = hasNext ? todos.subList(0, limit) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = items.get(items.size() - 1);
+            nextCursor = new TodoCursor(last.getDate(), last.getId()).encode();
+        }
+        return ResponseEntity.ok(TodoPageResponse.builder()
+                .items(items.stream().map(DtoMapper::toResponse).toList())
+                .nextCursor(nextCursor)
+                .build());
+    }
+
     @PutMapping("/{id}")
     public TodoResponse update(@PathVariable Long id, @RequestBody @Valid TodoUpdateRequest req) {
         log.info("Updating todo: id={}, text={}, done={}", id, req.getText(), req.getDone());
@@ -54,6 +160,25 @@ public class TodoController {
         return DtoMapper.toResponse(out);
     }
 
+    @PatchMapping("/{id}")
+    public TodoResponse patch(@PathVariable Long id, @RequestBody @Valid TodoPatchRequest req) {
+        log.info("Patching todo: id={}, text={}, done={}", id, req.getText(), req.getDone());
+        Todo out = patchUC.patch(id, req.getText(), req.getDone());
+        return DtoMapper.toResponse(out);
+    }
+
+    /**
+     * 일괄 완료/미완료 - 실제로 상태가 바뀐 할 일만 돌려준다
+     */
+    @PatchMapping("/bulk")
+    public List<TodoResponse> bulkPatch(@RequestBody @Valid TodoBulkPatchRequest req) {
+        List<Todo> changed = req.getIds() != null && !req.getIds().isEmpty()
+                ? patchUC.setDone(req.getIds(), req.getDone())
+                : patchUC.setDoneByDate(DtoMapper.toDate(req.getDate()), req.getDone());
+        log.info("Bulk patch done={}: {} todos changed", req.getDone(), changed.size());
+        return changed.stream().map(DtoMapper::toResponse).toList();
+    }
+
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id) {
         log.info("Deleting todo: id={}", id);
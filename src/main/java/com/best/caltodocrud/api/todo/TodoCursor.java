@@ -0,0 +1,29 @@
+package com.best.caltodocrud.api.todo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 키셋 페이지 커서 - 마지막으로 돌려준 할 일의 (date, id)를 base64url("yyyy-MM-dd:id")로 감싼 값
+ */
+record TodoCursor(LocalDate date, long id) {
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((date + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 형식이 틀리면 empty */
+    static Optional<TodoCursor> decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            if (sep < 0) return Optional.empty();
+            return Optional.of(new TodoCursor(LocalDate.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1))));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
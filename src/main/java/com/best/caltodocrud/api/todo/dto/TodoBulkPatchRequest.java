@@ -0,0 +1,34 @@
+package com.best.caltodocrud.api.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 일괄 완료 처리 - ids(최대 1000개) 또는 date(yyyy-MM-dd) 중 하나로 대상을 지정
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+public class TodoBulkPatchRequest {
+    @Size(max = 1000)
+    private List<@NotNull Long> ids;
+    private String date;
+    @NotNull
+    private Boolean done;
+
+    @JsonIgnore
+    @AssertTrue(message = "ids와 date 중 정확히 하나만 지정해야 합니다")
+    public boolean isSingleTarget() {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasDate = date != null && !date.isBlank();
+        return hasIds != hasDate;
+    }
+}
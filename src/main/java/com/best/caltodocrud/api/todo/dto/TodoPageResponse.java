@@ -0,0 +1,21 @@
+package com.best.caltodocrud.api.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 페이지 - nextCursor가 없으면 마지막 페이지
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@EqualsAndHashCode
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoPageResponse {
+    private List<TodoResponse> items;
+    private String nextCursor;
+}
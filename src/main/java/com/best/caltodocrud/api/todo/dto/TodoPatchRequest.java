@@ -0,0 +1,33 @@
+package com.best.caltodocrud.api.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * 부분 수정 - 보낸 필드만 바뀐다
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+public class TodoPatchRequest {
+    @Size(max = 200)
+    private String text;
+    private Boolean done;
+
+    @JsonIgnore
+    @AssertTrue(message = "text 또는 done 중 하나는 있어야 합니다")
+    public boolean isAnyFieldPresent() {
+        return text != null || done != null;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "text는 비어 있을 수 없습니다")
+    public boolean isTextValid() {
+        return text == null || !text.isBlank();
+    }
+}
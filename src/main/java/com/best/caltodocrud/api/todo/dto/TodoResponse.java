@@ -23,7 +23,7 @@ public class TodoResponse {
                 .id(t.getId())
                 .text(t.getText())
                 .done(t.isDone())
-                .date(t.getDate())
+                .date(t.getDate().toString())
                 .build();
     }
 }
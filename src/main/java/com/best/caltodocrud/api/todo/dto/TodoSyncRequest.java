@@ -1,6 +1,7 @@
 package com.best.caltodocrud.api.todo.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 @Getter
@@ -11,6 +12,7 @@ import lombok.*;
 @ToString
 public class TodoSyncRequest {
     @NotBlank
+    @Size(max = 200)
     private String text;
 
     @NotBlank
@@ -1,6 +1,7 @@
 package com.best.caltodocrud.api.todo.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -12,6 +13,7 @@ import lombok.*;
 @ToString
 public class TodoUpdateRequest {
     @NotBlank
+    @Size(max = 200)
     private String text;
     @NotNull
     private Boolean done;
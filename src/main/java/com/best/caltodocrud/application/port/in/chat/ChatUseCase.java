@@ -1,10 +1,16 @@
 package com.best.caltodocrud.application.port.in.chat;
 
-import com.best.caltodocrud.api.chat.dto.ChatMessageDto;
 import com.best.caltodocrud.domain.Todo;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * 대화 맥락(이전 턴)은 서버가 conversationId 기준으로 보관하므로 새 메시지만 받는다
+ */
 public interface ChatUseCase {
-    String chat(String message, List<ChatMessageDto> history, List<Todo> contextTodos);
+    String chat(UUID conversationId, String message, List<Todo> contextTodos);
+
+    Flux<String> chatStream(UUID conversationId, String message, List<Todo> contextTodos);
 }
@@ -2,6 +2,13 @@ package com.best.caltodocrud.application.port.in.summarize;
 
 import com.best.caltodocrud.domain.SummaryResult;
 
+import java.util.List;
+
 public interface SummarizeScheduleUseCase {
     SummaryResult summarize(SummarizeScheduleCommand command);
+
+    /**
+     * 여러 기간 요약 - 결과는 commands 순서와 같고, 실패한 기간은 규칙 기반 요약(fallback=true)
+     */
+    List<SummaryResult> summarizeAll(List<SummarizeScheduleCommand> commands);
 }
@@ -2,6 +2,8 @@ package com.best.caltodocrud.application.port.in.todo;
 
 import com.best.caltodocrud.domain.Todo;
 
+import java.time.LocalDate;
+
 public interface CreateTodoUseCase {
-    Todo create(String text, String date);
+    Todo create(String text, LocalDate date);
 }
@@ -2,9 +2,12 @@ package com.best.caltodocrud.application.port.in.todo;
 
 import com.best.caltodocrud.domain.Todo;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface GetTodosUseCase {
-    List<Todo> findByDate(String date);
-    List<Todo> findRange(String from, String to);
+    List<Todo> findByDate(LocalDate date);
+    List<Todo> findRange(LocalDate from, LocalDate to);
+    /** 키셋 페이지: (date, id)가 (afterDate, afterId) 다음인 할 일부터 to까지 최대 limit개 */
+    List<Todo> findRangeAfter(LocalDate afterDate, long afterId, LocalDate to, int limit);
 }
@@ -0,0 +1,15 @@
+package com.best.caltodocrud.application.port.in.todo;
+
+import com.best.caltodocrud.domain.Todo;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface PatchTodoUseCase {
+    /** null인 필드는 그대로 둠 */
+    Todo patch(Long id, String text, Boolean done);
+    /** 완료 여부가 실제로 바뀐 할 일만 돌려줌 */
+    List<Todo> setDone(Collection<Long> ids, boolean done);
+    List<Todo> setDoneByDate(LocalDate date, boolean done);
+}
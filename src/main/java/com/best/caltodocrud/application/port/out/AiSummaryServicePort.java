@@ -3,6 +3,13 @@ package com.best.caltodocrud.application.port.out;
 import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
 import com.best.caltodocrud.domain.SummaryResult;
 
+import java.util.List;
+
 public interface AiSummaryServicePort {
     SummaryResult summarize(SummarizeScheduleCommand command);
+
+    /**
+     * 시간순으로 이어진 구간 요약들을 [from, to] 전체 요약 하나로 합침 (계층 요약의 reduce 단계)
+     */
+    SummaryResult merge(String from, String to, List<SummaryResult> parts);
 }
@@ -14,11 +14,46 @@ import java.util.UUID;
 public interface ChatConversationRepositoryPort {
     
     ChatConversation save(ChatConversation conversation);
+
+    /**
+     * 새 대화 헤더만 INSERT 한 번으로 저장 (존재 여부 확인 SELECT/메시지 교체 없음, 메시지는 appendMessages로)
+     */
+    ChatConversation create(ChatConversation conversation);
     
     Optional<ChatConversation> findById(UUID id);
     
     Optional<ChatConversation> findActiveBySessionId(String sessionId);
     
+    /**
+     * 메시지를 읽지 않고 대화 헤더(메타데이터)만 조회
+     */
+    Optional<ChatConversation> findHeaderById(UUID id);
+    
+    /**
+     * 대화 헤더 + 최근 lastN개 메시지만 조회 (시간순 정렬)
+     */
+    Optional<ChatConversation> findWithRecentMessages(UUID id, int lastN);
+    
+    /**
+     * 메시지를 읽지 않고 대화 헤더(메타데이터)만 조회
+     */
+    Optional<ChatConversation> findActiveHeaderBySessionId(String sessionId);
+    
+    /**
+     * 대화 헤더 + 최근 lastN개 메시지만 조회 (오래된 메시지는 읽지 않음, 시간순 정렬)
+     */
+    Optional<ChatConversation> findActiveWithRecentMessages(String sessionId, int lastN);
+    
+    /**
+     * 새 메시지만 덧붙이고 대화 카운터를 제자리에서 갱신한다.
+     * delta의 totalMessages/totalTokensUsed/totalDurationMs는 증가분, topicsDiscussed는 추가할 주제,
+     * primaryIntent는 아직 비어 있을 때만 반영된다.
+     * runningSummary/summarizedMessages는 증가분이 아닌 새 값이며, 값이 있을 때만 반영된다.
+     */
+    void appendMessages(UUID conversationId,
+                        List<ChatConversation.ChatMessage> messages,
+                        ChatConversation.ConversationMetadata delta);
+    
     List<ChatConversation> findRecentConversations(int limit);
     
     List<ChatConversation> searchConversations(String keyword);
@@ -1,10 +1,20 @@
 package com.best.caltodocrud.application.port.out;
 
-import com.best.caltodocrud.api.chat.dto.ChatMessageDto;
+import com.best.caltodocrud.domain.ChatConversation;
+import com.best.caltodocrud.domain.ChatMemory;
+import com.best.caltodocrud.domain.ChatReply;
 import com.best.caltodocrud.domain.Todo;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
 public interface ChatServicePort {
-    String chat(String message, List<ChatMessageDto> history, List<Todo> contextTodos);
+    /** 응답 본문과 이 호출의 토큰 사용량 */
+    ChatReply chat(String message, ChatMemory memory, List<Todo> contextTodos);
+
+    /** 응답 조각을 도착하는 대로 흘려보내고, 마지막에 토큰 사용량만 담은 조각을 하나 더 보낸다 */
+    Flux<ChatReply> chatStream(String message, ChatMemory memory, List<Todo> contextTodos);
+
+    /** 이전 누적 요약과 새로 밀려난 메시지를 합쳐 새 누적 요약을 만든다 */
+    String summarizeConversation(String previousSummary, List<ChatConversation.ChatMessage> messages);
 }
@@ -0,0 +1,14 @@
+package com.best.caltodocrud.application.port.out;
+
+import com.best.caltodocrud.domain.DailySummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailySummaryRepositoryPort {
+    Optional<DailySummary> findByDate(String date);
+    List<DailySummary> findByDates(Collection<String> dates);
+    DailySummary save(DailySummary summary);
+    void deleteByDate(String date);
+}
@@ -2,13 +2,24 @@ package com.best.caltodocrud.application.port.out;
 
 import com.best.caltodocrud.domain.Todo;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepositoryPort {
     Todo save(Todo todo);
     Optional<Todo> findById(Long id);
-    List<Todo> findByDate(String date);
-    List<Todo> findRange(String from, String to);
+    List<Todo> findByDate(LocalDate date);
+    List<Todo> findRange(LocalDate from, LocalDate to);
+    /** (date, id) 순으로 (afterDate, afterId) 다음부터 to까지 최대 limit개 - 첫 페이지는 (from, 0) */
+    List<Todo> findRangeAfter(LocalDate afterDate, long afterId, LocalDate to, int limit);
+    /** null이 아닌 필드만 바꾸고 바뀐 상태를 돌려줌 (없는 id면 empty) */
+    Optional<Todo> patch(Long id, String text, Boolean done);
+    /** 완료 여부가 실제로 바뀐 할 일만 돌려줌 */
+    List<Todo> updateDone(Collection<Long> ids, boolean done);
+    List<Todo> updateDoneByDate(LocalDate date, boolean done);
+    /** (date, text)가 같으면 완료 여부만 갱신, 없으면 생성 - 결과는 날짜/id 순 */
+    List<Todo> upsertAll(List<Todo> todos);
     void deleteById(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.best.caltodocrud.application.port.out;
+
+/**
+ * 모델 토크나이저 기준 토큰 수 계산 포트
+ */
+public interface TokenCounterPort {
+    int count(String text);
+}
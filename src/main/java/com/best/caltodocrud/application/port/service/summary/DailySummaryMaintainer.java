@@ -0,0 +1,122 @@
+package com.best.caltodocrud.application.port.service.summary;
+
+import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
+import com.best.caltodocrud.application.port.out.AiSummaryServicePort;
+import com.best.caltodocrud.application.port.out.DailySummaryRepositoryPort;
+import com.best.caltodocrud.application.port.out.TodoRepositoryPort;
+import com.best.caltodocrud.application.service.support.Fingerprints;
+import com.best.caltodocrud.domain.DailySummary;
+import com.best.caltodocrud.domain.SummaryResult;
+import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 날짜별 요약(daily_summaries) 갱신
+ * - 할 일이 바뀐 날짜(커밋 후 이벤트)와 조립 중 요약이 없거나 오래된 것으로 확인된 날짜를 dirty로 모음
+ * - 주기적으로 dirty 날짜만 다시 요약, 내용 해시가 저장된 것과 같으면 LLM 호출 없이 건너뜀
+ * - 할 일이 없어진 날짜는 요약 삭제, 실패(fallback) 요약은 저장하지 않음
+ */
+@Slf4j
+@Component
+public class DailySummaryMaintainer {
+
+    private final AiSummaryServicePort llm;
+    private final TodoRepositoryPort todoRepository;
+    private final DailySummaryRepositoryPort dailySummaries;
+    private final int batchSize;
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final Counter refreshed;
+
+    public DailySummaryMaintainer(AiSummaryServicePort llm,
+                                  TodoRepositoryPort todoRepository,
+                                  DailySummaryRepositoryPort dailySummaries,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.summary.daily.batch-size:50}") int batchSize) {
+        this.llm = llm;
+        this.todoRepository = todoRepository;
+        this.dailySummaries = dailySummaries;
+        this.batchSize = batchSize;
+        this.refreshed = Counter.builder("summary.daily.refreshed")
+                .description("다시 요약해 저장한 날짜 수")
+                .register(meterRegistry);
+        Gauge.builder("summary.daily.dirty", dirty, Set::size)
+                .description("다시 요약해야 하는 날짜 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        markDirty(event.dates());
+    }
+
+    public void markDirty(Collection<String> dates) {
+        dirty.addAll(dates);
+    }
+
+    @Scheduled(fixedDelayString = "${app.summary.daily.refresh-interval:30s}",
+            initialDelayString = "${app.summary.daily.refresh-interval:30s}")
+    public void refreshDirty() {
+        int processed = 0;
+        Iterator<String> it = dirty.iterator();
+        while (it.hasNext() && processed < batchSize) {
+            String date = it.next();
+            it.remove();
+            processed++;
+            try {
+                refresh(date);
+            } catch (Exception e) {
+                // 다음 조립 요청에서 다시 dirty로 표시되므로 여기서 재시도하지 않음
+                log.warn("Daily summary refresh failed for {}: {}", date, e.getMessage());
+            }
+        }
+        if (processed > 0) {
+            log.info("Daily summaries checked: {} dates ({} still dirty)", processed, dirty.size());
+        }
+    }
+
+    private void refresh(String date) {
+        List<Todo> todos = todoRepository.findByDate(LocalDate.parse(date));
+        if (todos.isEmpty()) {
+            dailySummaries.deleteByDate(date);
+            return;
+        }
+
+        List<SummarizeScheduleCommand.Todo> commandTodos = todos.stream()
+                .map(t -> new SummarizeScheduleCommand.Todo(
+                        Objects.toString(t.getId(), ""), t.getText(), t.isDone(), t.getDate().toString()))
+                .toList();
+        String hash = Fingerprints.summaryTodos(commandTodos);
+        boolean upToDate = dailySummaries.findByDate(date)
+                .map(s -> s.getContentHash().equals(hash))
+                .orElse(false);
+        if (upToDate) return;
+
+        SummaryResult result = llm.summarize(new SummarizeScheduleCommand(date, date, commandTodos));
+        if (result.isFallback()) return;
+
+        dailySummaries.save(DailySummary.builder()
+                .date(date)
+                .contentHash(hash)
+                .summary(result)
+                .updatedAt(LocalDateTime.now())
+                .build());
+        refreshed.increment();
+    }
+}
@@ -0,0 +1,67 @@
+package com.best.caltodocrud.application.port.service.summary;
+
+import com.best.caltodocrud.domain.exception.SummaryUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 계산을 하나로 합침
+ * - 먼저 도착한 호출(리더)이 자기 스레드에서 계산하고, 나머지는 그 결과를 기다림
+ * - 대기자는 각자의 제한 시간만큼만 기다리며, 시간이 지나도 리더의 계산은 취소하지 않음
+ * - 리더의 예외는 감싸지 않고 모든 대기자에게 그대로 전달
+ * - 계산이 끝나면 키를 비우므로 결과 재사용은 캐시가 담당
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /** 결과와 함께 이 호출이 다른 호출에 합류했는지 여부 */
+    record Outcome<V>(V value, boolean shared) {
+    }
+
+    Outcome<V> execute(K key, Supplier<V> loader, Duration waitTimeout) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return new Outcome<>(await(existing, waitTimeout), true);
+        }
+
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return new Outcome<>(value, false);
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future, Duration waitTimeout) {
+        try {
+            return future.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new SummaryUnavailableException("진행 중인 요약을 기다리다 시간 초과 (" + waitTimeout + ")", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SummaryUnavailableException("요약 대기 중 인터럽트됨", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new SummaryUnavailableException("요약 생성 실패", cause);
+        }
+    }
+}
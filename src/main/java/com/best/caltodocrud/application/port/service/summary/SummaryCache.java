@@ -0,0 +1,67 @@
+package com.best.caltodocrud.application.port.service.summary;
+
+import com.best.caltodocrud.domain.SummaryResult;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * 요약 결과 캐시
+ * - 키: 기간 + 할 일 내용 해시 (SummaryKey)
+ * - 만료 정책은 app.summary.cache.spec (CaffeineSpec 문법)으로 교체 가능
+ *   예) maximumSize=500,expireAfterWrite=30m / maximumSize=200,expireAfterAccess=10m
+ * - 할 일이 바뀐 날짜를 포함하는 기간의 항목은 커밋 후 무효화
+ */
+@Component
+@Slf4j
+public class SummaryCache {
+
+    private final Cache<SummaryKey, SummaryResult> cache;
+    private final Counter llmCallsSaved;
+
+    public SummaryCache(MeterRegistry meterRegistry,
+                        @Value("${app.summary.cache.spec:maximumSize=500,expireAfterWrite=30m}") String spec) {
+        this.cache = Caffeine.from(CaffeineSpec.parse(spec))
+                .recordStats()
+                .build();
+        this.llmCallsSaved = Counter.builder("summary.llm.calls.saved")
+                .description("캐시 적중으로 생략한 요약 LLM 호출 수")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "summary");
+        log.info("Summary cache policy: {}", spec);
+    }
+
+    public Optional<SummaryResult> get(SummaryKey key) {
+        SummaryResult hit = cache.getIfPresent(key);
+        if (hit != null) llmCallsSaved.increment();
+        return Optional.ofNullable(hit);
+    }
+
+    public void put(SummaryKey key, SummaryResult result) {
+        cache.put(key, result);
+    }
+
+    /** 지금까지 캐시 덕분에 생략한 LLM 호출 수 */
+    public long llmCallsSaved() {
+        return (long) llmCallsSaved.count();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        boolean removed = cache.asMap().keySet()
+                .removeIf(key -> event.dates().stream().anyMatch(key::covers));
+        if (removed) {
+            log.debug("Summary cache invalidated for dates {}", event.dates());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.best.caltodocrud.application.port.service.summary;
+
+import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 긴 기간을 달력 단위(주: 월~일, 월: 1일~말일) 구간으로 나눔
+ * - 경계가 달력에 맞춰져 있어 겹치는 기간 요청끼리 안쪽 구간의 키(기간 + 내용 해시)가 같아짐 → SummaryCache 재사용
+ * - 할 일이 없는 구간은 건너뜀
+ */
+final class SummaryChunks {
+
+    enum Granularity { WEEK, MONTH }
+
+    private SummaryChunks() {}
+
+    static List<SummarizeScheduleCommand> split(SummarizeScheduleCommand command, Granularity granularity) {
+        NavigableMap<String, List<SummarizeScheduleCommand.Todo>> byDate = new TreeMap<>();
+        for (SummarizeScheduleCommand.Todo todo : command.getTodos()) {
+            byDate.computeIfAbsent(todo.getDate(), d -> new ArrayList<>()).add(todo);
+        }
+
+        LocalDate to = LocalDate.parse(command.getTo());
+        List<SummarizeScheduleCommand> chunks = new ArrayList<>();
+        for (LocalDate start = LocalDate.parse(command.getFrom()); !start.isAfter(to); ) {
+            LocalDate end = switch (granularity) {
+                case WEEK -> start.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+                case MONTH -> start.with(TemporalAdjusters.lastDayOfMonth());
+            };
+            if (end.isAfter(to)) end = to;
+
+            List<SummarizeScheduleCommand.Todo> todos = new ArrayList<>();
+            for (Map.Entry<String, List<SummarizeScheduleCommand.Todo>> e
+                    : byDate.subMap(start.toString(), true, end.toString(), true).entrySet()) {
+                todos.addAll(e.getValue());
+            }
+            if (!todos.isEmpty()) {
+                chunks.add(new SummarizeScheduleCommand(start.toString(), end.toString(), todos));
+            }
+            start = end.plusDays(1);
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,20 @@
+package com.best.caltodocrud.application.port.service.summary;
+
+import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
+import com.best.caltodocrud.application.service.support.Fingerprints;
+
+/**
+ * 요약 요청 식별 키 = 기간 + 할 일 목록 내용 해시
+ * 같은 키면 같은 입력이므로 같은 요약을 재사용할 수 있다
+ */
+public record SummaryKey(String from, String to, String contentHash) {
+
+    public static SummaryKey of(SummarizeScheduleCommand command) {
+        return new SummaryKey(command.getFrom(), command.getTo(), Fingerprints.summaryTodos(command.getTodos()));
+    }
+
+    /** yyyy-MM-dd 문자열은 사전순 = 날짜순 */
+    public boolean covers(String date) {
+        return from.compareTo(date) <= 0 && to.compareTo(date) >= 0;
+    }
+}
@@ -3,15 +3,104 @@ package com.best.caltodocrud.application.port.service.summary;
 import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
 import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleUseCase;
 import com.best.caltodocrud.application.port.out.AiSummaryServicePort;
+import com.best.caltodocrud.application.port.out.DailySummaryRepositoryPort;
+import com.best.caltodocrud.application.service.support.Fingerprints;
+import com.best.caltodocrud.domain.DailySummary;
 import com.best.caltodocrud.domain.SummaryResult;
-import lombok.RequiredArgsConstructor;
+import com.best.caltodocrud.domain.exception.SummaryUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class SummaryService implements SummarizeScheduleUseCase {
 
-    private final AiSummaryServicePort llm; // 조건에 의해 단 하나만 빈 등록됨
+    private final AiSummaryServicePort llm;      // AI 사용 시 OpenAI(@Primary), 아니면 규칙 기반
+    private final AiSummaryServicePort ruleBased; // 배치 요약에서 실패한 구간의 대체 요약
+    private final SummaryCache cache;
+    private final DailySummaryRepositoryPort dailySummaries;
+    private final DailySummaryMaintainer dailySummaryMaintainer;
+    private final Scheduler aiBlockingScheduler;   // 계층 요약의 구간 요약/병합 (LLM 호출)
+    private final Scheduler batchScheduler;        // 배치 요약의 기간별 작업 (안쪽 단계를 기다리며 블로킹)
+    private final Duration parallelTimeout;
+    private final SingleFlight<SummaryKey, SummaryResult> singleFlight = new SingleFlight<>();
+    private final Duration waitTimeout;
+    private final Counter coalesced;
+
+    // 날짜별 요약 조립 (저장된 하루치 요약 + 병합 1회)
+    private final boolean dailyEnabled;
+    private final int dailyMaxDays;
+
+    // 배치 요약 동시 실행 수
+    private final int batchParallelism;
+
+    // 계층 요약 (기간을 주/월 단위로 나눠 병렬 요약 후 트리 형태로 병합)
+    private final int hierarchicalMinTodos;
+    private final int monthlyAfterDays;
+    private final int parallelism;
+    private final int fanIn;
+
+    public SummaryService(AiSummaryServicePort llm,
+                          @Qualifier("simpleSummaryService") AiSummaryServicePort ruleBased,
+                          SummaryCache cache,
+                          DailySummaryRepositoryPort dailySummaries,
+                          DailySummaryMaintainer dailySummaryMaintainer,
+                          Scheduler aiBlockingScheduler,
+                          @Qualifier("summaryBatchScheduler") Scheduler batchScheduler,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.summary.single-flight.wait-timeout:45s}") Duration waitTimeout,
+                          @Value("${app.summary.daily.enabled:true}") boolean dailyEnabled,
+                          @Value("${app.summary.daily.max-days:31}") int dailyMaxDays,
+                          @Value("${app.summary.batch.parallelism:4}") int batchParallelism,
+                          @Value("${app.summary.hierarchical.min-todos:60}") int hierarchicalMinTodos,
+                          @Value("${app.summary.hierarchical.monthly-after-days:92}") int monthlyAfterDays,
+                          @Value("${app.summary.hierarchical.parallelism:6}") int parallelism,
+                          @Value("${app.summary.hierarchical.fan-in:6}") int fanIn,
+                          @Value("${app.summary.parallel.timeout:90s}") Duration parallelTimeout) {
+        this.llm = llm;
+        this.ruleBased = ruleBased;
+        this.cache = cache;
+        this.dailySummaries = dailySummaries;
+        this.dailySummaryMaintainer = dailySummaryMaintainer;
+        this.dailyEnabled = dailyEnabled;
+        this.dailyMaxDays = dailyMaxDays;
+        this.aiBlockingScheduler = aiBlockingScheduler;
+        this.batchScheduler = batchScheduler;
+        this.parallelTimeout = parallelTimeout;
+        this.waitTimeout = waitTimeout;
+        this.batchParallelism = batchParallelism;
+        this.hierarchicalMinTodos = hierarchicalMinTodos;
+        this.monthlyAfterDays = monthlyAfterDays;
+        this.parallelism = parallelism;
+        this.fanIn = Math.max(2, fanIn);
+        this.coalesced = Counter.builder("summary.single.flight.coalesced")
+                .description("진행 중인 동일 요약에 합류해 생략한 LLM 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("summary.single.flight.inflight", singleFlight, SingleFlight::inFlight)
+                .description("진행 중인 서로 다른 요약 계산 수")
+                .register(meterRegistry);
+    }
 
     @Override
     public SummaryResult summarize(SummarizeScheduleCommand command) {
@@ -24,6 +113,202 @@ public class SummaryService implements SummarizeScheduleUseCase {
                     .freeText("선택된 기간에 등록된 일정이 없어요.")
                     .build();
         }
-        return llm.summarize(command);
+
+        return cachedOrCompute(command, this::compute);
+    }
+
+    /**
+     * 여러 기간을 한 번에 요약
+     * - 같은 입력(기간 + 내용)은 한 번만 계산하고 결과를 공유
+     * - 최대 batch.parallelism개씩 동시에 계산, 결과는 요청 순서대로
+     * - 실패했거나 LLM이 최소 요약으로 대체한 구간은 규칙 기반 요약으로 대체 (fallback 표시)
+     */
+    @Override
+    public List<SummaryResult> summarizeAll(List<SummarizeScheduleCommand> commands) {
+        Map<SummaryKey, SummarizeScheduleCommand> unique = new LinkedHashMap<>();
+        List<SummaryKey> keys = new ArrayList<>(commands.size());
+        for (SummarizeScheduleCommand command : commands) {
+            SummaryKey key = SummaryKey.of(command);
+            unique.putIfAbsent(key, command);
+            keys.add(key);
+        }
+
+        List<SummaryKey> uniqueKeys = new ArrayList<>(unique.keySet());
+        List<SummaryResult> computed = inParallel(uniqueKeys, key -> summarizeOrFallback(unique.get(key)),
+                batchParallelism, batchScheduler);
+        Map<SummaryKey, SummaryResult> byKey = new HashMap<>();
+        for (int i = 0; i < uniqueKeys.size(); i++) {
+            byKey.put(uniqueKeys.get(i), computed.get(i));
+        }
+
+        log.info("Summary batch: {} ranges, {} unique", commands.size(), uniqueKeys.size());
+        return keys.stream().map(byKey::get).toList();
+    }
+
+    private SummaryResult summarizeOrFallback(SummarizeScheduleCommand command) {
+        try {
+            SummaryResult result = summarize(command);
+            if (!result.isFallback()) return result;
+        } catch (Exception e) {
+            log.warn("Summary failed for {} ~ {}, using rule-based summary: {}",
+                    command.getFrom(), command.getTo(), e.getMessage());
+        }
+        return ruleBased.summarize(command).toBuilder().fallback(true).build();
+    }
+
+    /**
+     * 캐시 → 진행 중인 동일 계산 합류 → 계산 후 캐시 (실패 요약은 캐시하지 않음)
+     */
+    private SummaryResult cachedOrCompute(SummarizeScheduleCommand command,
+                                          Function<SummarizeScheduleCommand, SummaryResult> compute) {
+        // 같은 기간 + 같은 할 일 내용이면 이전 요약 재사용
+        SummaryKey key = SummaryKey.of(command);
+        var cached = cache.get(key);
+        if (cached.isPresent()) {
+            log.info("Summary cache hit: {} ~ {} (saved LLM calls: {})",
+                    command.getFrom(), command.getTo(), cache.llmCallsSaved());
+            return cached.get();
+        }
+
+        // 같은 요약이 이미 계산 중이면 그 결과를 함께 받음
+        var outcome = singleFlight.execute(key, () -> {
+            // 캐시 확인 직후 다른 리더가 막 끝낸 경우
+            var again = cache.get(key);
+            if (again.isPresent()) return again.get();
+
+            SummaryResult result = compute.apply(command);
+            if (!result.isFallback()) {
+                cache.put(key, result);
+            }
+            return result;
+        }, waitTimeout);
+        if (outcome.shared()) {
+            coalesced.increment();
+            log.info("Summary coalesced with in-flight request: {} ~ {}", command.getFrom(), command.getTo());
+        }
+        return outcome.value();
+    }
+
+    private SummaryResult compute(SummarizeScheduleCommand command) {
+        long days = ChronoUnit.DAYS.between(LocalDate.parse(command.getFrom()), LocalDate.parse(command.getTo())) + 1;
+
+        if (dailyEnabled && days <= dailyMaxDays) {
+            var assembled = assembleFromDaily(command);
+            if (assembled.isPresent()) return assembled.get();
+        }
+
+        if (command.getTodos().size() < hierarchicalMinTodos) {
+            return llm.summarize(command);
+        }
+
+        var granularity = days > monthlyAfterDays ? SummaryChunks.Granularity.MONTH : SummaryChunks.Granularity.WEEK;
+        List<SummarizeScheduleCommand> chunks = SummaryChunks.split(command, granularity);
+        if (chunks.size() < 2) {
+            return llm.summarize(command);
+        }
+        return summarizeHierarchically(command, chunks, granularity);
+    }
+
+    /**
+     * 저장된 날짜별 요약으로 기간 요약 조립
+     * - 모든 날짜의 요약이 현재 할 일과 같은 해시면: 하루짜리는 그대로(LLM 호출 0회), 여러 날은 병합 1회
+     * - 하나라도 없거나 오래됐으면 그 날짜들을 dirty로 표시하고 기존 경로로 계산 (다음 요청부터 조립 가능)
+     */
+    private Optional<SummaryResult> assembleFromDaily(SummarizeScheduleCommand command) {
+        Map<String, List<SummarizeScheduleCommand.Todo>> byDate = new TreeMap<>();
+        for (SummarizeScheduleCommand.Todo todo : command.getTodos()) {
+            byDate.computeIfAbsent(todo.getDate(), d -> new ArrayList<>()).add(todo);
+        }
+
+        Map<String, DailySummary> stored = new HashMap<>();
+        for (DailySummary s : dailySummaries.findByDates(byDate.keySet())) {
+            stored.put(s.getDate(), s);
+        }
+
+        List<String> stale = new ArrayList<>();
+        List<SummaryResult> pieces = new ArrayList<>(byDate.size());
+        byDate.forEach((date, todos) -> {
+            DailySummary s = stored.get(date);
+            if (s == null || !s.getContentHash().equals(Fingerprints.summaryTodos(todos))) {
+                stale.add(date);
+            } else {
+                pieces.add(s.getSummary());
+            }
+        });
+
+        if (!stale.isEmpty()) {
+            dailySummaryMaintainer.markDirty(stale);
+            log.debug("Daily summaries missing or stale for {}, computing {} ~ {} directly",
+                    stale, command.getFrom(), command.getTo());
+            return Optional.empty();
+        }
+
+        log.info("Summary assembled from {} daily summaries: {} ~ {}", pieces.size(), command.getFrom(), command.getTo());
+        return Optional.of(pieces.size() == 1
+                ? pieces.get(0)
+                : llm.merge(command.getFrom(), command.getTo(), pieces));
+    }
+
+    /**
+     * map: 구간별 요약을 병렬로 (구간 결과는 캐시되어 겹치는 기간 요청끼리 재사용)
+     * reduce: fan-in개씩 묶어 병합을 반복 → 단계 수는 log_fanIn(구간 수)
+     */
+    private SummaryResult summarizeHierarchically(SummarizeScheduleCommand command,
+                                                  List<SummarizeScheduleCommand> chunks,
+                                                  SummaryChunks.Granularity granularity) {
+        long started = System.nanoTime();
+
+        List<Part> level = inParallel(chunks, chunk -> new Part(chunk.getFrom(), chunk.getTo(),
+                cachedOrCompute(chunk, llm::summarize)), parallelism, aiBlockingScheduler);
+
+        int rounds = 0;
+        while (level.size() > 1) {
+            List<List<Part>> groups = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += fanIn) {
+                groups.add(level.subList(i, Math.min(level.size(), i + fanIn)));
+            }
+            level = inParallel(groups, this::mergeGroup, parallelism, aiBlockingScheduler);
+            rounds++;
+        }
+
+        log.info("Hierarchical summary {} ~ {}: {} {} chunks, {} merge rounds in {}ms",
+                command.getFrom(), command.getTo(), chunks.size(), granularity, rounds,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return level.get(0).result();
+    }
+
+    private Part mergeGroup(List<Part> group) {
+        if (group.size() == 1) return group.get(0);
+
+        String from = group.get(0).from();
+        String to = group.get(group.size() - 1).to();
+        List<SummaryResult> results = group.stream().map(Part::result).toList();
+        SummaryResult merged = llm.merge(from, to, results);
+
+        // 부분 결과 중 하나라도 실패 요약이면 전체도 캐시하지 않도록 표시
+        if (!merged.isFallback() && results.stream().anyMatch(SummaryResult::isFallback)) {
+            merged = merged.toBuilder().fallback(true).build();
+        }
+        return new Part(from, to, merged);
+    }
+
+    /**
+     * 순서를 유지하며 최대 concurrency개씩 scheduler에서 동시에 실행
+     * 중첩해서 부를 때는 바깥과 안쪽이 서로 다른 스케줄러를 써야 한다 (같은 풀이면 서로 기다리다 멈출 수 있음)
+     * parallel.timeout 안에 끝나지 않으면 남은 작업을 취소하고 SummaryUnavailableException (503)
+     * 배치 요약에서는 summarizeOrFallback이 이를 잡아 규칙 기반 요약으로 대체한다
+     */
+    private <T, R> List<R> inParallel(List<T> items, Function<T, R> task, int concurrency, Scheduler scheduler) {
+        return Flux.fromIterable(items)
+                .flatMapSequential(item -> Mono.fromCallable(() -> task.apply(item))
+                        .subscribeOn(scheduler), concurrency)
+                .collectList()
+                .timeout(parallelTimeout)
+                .onErrorMap(TimeoutException.class, e -> new SummaryUnavailableException(
+                        "요약이 " + parallelTimeout.toSeconds() + "초 안에 끝나지 않았습니다", e))
+                .block();
+    }
+
+    private record Part(String from, String to, SummaryResult result) {
     }
 }
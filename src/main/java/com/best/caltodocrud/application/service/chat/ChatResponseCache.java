@@ -0,0 +1,90 @@
+package com.best.caltodocrud.application.service.chat;
+
+import com.best.caltodocrud.application.service.support.Fingerprints;
+import com.best.caltodocrud.domain.ChatMemory;
+import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 반복 질문용 챗봇 응답 캐시
+ * 키 = 정규화한 메시지 + 컨텍스트 할 일 지문 + 대화 기억(누적 요약 + 최근 메시지) 지문
+ * TTL/최대 개수로 만료되며, 관련 날짜의 할 일이 바뀌면 즉시 무효화된다
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.ai", name = "enabled", havingValue = "true")
+public class ChatResponseCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?!.~]+$");
+
+    private final Cache<Key, String> cache;
+    private final int historyTail;
+
+    public ChatResponseCache(MeterRegistry meterRegistry,
+                             @Value("${app.chat.cache.ttl:10m}") Duration ttl,
+                             @Value("${app.chat.cache.max-size:1000}") long maxSize,
+                             @Value("${app.chat.cache.history-tail:4}") int historyTail) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.historyTail = historyTail;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chat.response");
+    }
+
+    public Key keyOf(String message, ChatMemory memory, List<Todo> contextTodos) {
+        // 컨텍스트가 비어 있어도 오늘 할 일이 생기면 무효화되도록 오늘 날짜를 포함
+        Set<String> dates = new HashSet<>();
+        dates.add(LocalDate.now().toString());
+        if (contextTodos != null) {
+            contextTodos.forEach(t -> dates.add(t.getDate().toString()));
+        }
+        return new Key(normalize(message),
+                Fingerprints.todos(contextTodos),
+                Fingerprints.memoryTail(memory, historyTail),
+                dates);
+    }
+
+    public Optional<String> get(Key key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(Key key, String response) {
+        if (response != null && !response.isBlank()) {
+            cache.put(key, response);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        boolean removed = cache.asMap().keySet()
+                .removeIf(key -> !Collections.disjoint(key.dates(), event.dates()));
+        if (removed) {
+            log.debug("Chat response cache invalidated for dates {}", event.dates());
+        }
+    }
+
+    static String normalize(String message) {
+        String collapsed = WHITESPACE.matcher(message.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+        return TRAILING_PUNCTUATION.matcher(collapsed).replaceAll("");
+    }
+
+    public record Key(String message, String todosFingerprint, String historyFingerprint, Set<String> dates) {
+    }
+}
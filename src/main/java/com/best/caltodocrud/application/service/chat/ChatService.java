@@ -1,19 +1,26 @@
 package com.best.caltodocrud.application.service.chat;
 
-import com.best.caltodocrud.api.chat.dto.ChatMessageDto;
 import com.best.caltodocrud.application.port.in.chat.ChatUseCase;
 import com.best.caltodocrud.application.port.out.ChatServicePort;
-import com.best.caltodocrud.application.port.out.ChatConversationRepositoryPort;
 import com.best.caltodocrud.domain.ChatConversation;
+import com.best.caltodocrud.domain.ChatMemory;
+import com.best.caltodocrud.domain.ChatReply;
 import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.exception.AiCircuitOpenException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.annotation.Propagation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @Slf4j
@@ -21,26 +28,70 @@ import java.util.*;
 public class ChatService implements ChatUseCase {
 
     private final ChatServicePort chatServicePort;
-    private final ChatConversationRepositoryPort conversationRepository;
+    private final ConversationWriteBehind conversationWriteBehind;
+    private final ConversationMemoryStore conversationMemory;
+    private final ChatResponseCache responseCache;
+    private final RuleBasedChatResponder ruleBasedResponder;
+    private final KeywordClassifier keywordClassifier;
+    private final Scheduler aiBlockingScheduler;
+    private final Timer timeToFirstToken;
+    private final MeterRegistry meterRegistry;
 
     public ChatService(ChatServicePort chatServicePort,
-                      ChatConversationRepositoryPort conversationRepository) {
+                      ConversationWriteBehind conversationWriteBehind,
+                      ConversationMemoryStore conversationMemory,
+                      ChatResponseCache responseCache,
+                      RuleBasedChatResponder ruleBasedResponder,
+                      KeywordClassifier keywordClassifier,
+                      Scheduler aiBlockingScheduler,
+                      MeterRegistry meterRegistry) {
         this.chatServicePort = chatServicePort;
-        this.conversationRepository = conversationRepository;
+        this.conversationWriteBehind = conversationWriteBehind;
+        this.conversationMemory = conversationMemory;
+        this.responseCache = responseCache;
+        this.ruleBasedResponder = ruleBasedResponder;
+        this.keywordClassifier = keywordClassifier;
+        this.aiBlockingScheduler = aiBlockingScheduler;
+        this.meterRegistry = meterRegistry;
+        this.timeToFirstToken = Timer.builder("chat.stream.ttft")
+                .description("첫 토큰이 도착하기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
     }
 
     @Override
-    public String chat(String message, List<ChatMessageDto> history, List<Todo> contextTodos) {
+    public String chat(UUID conversationId, String message, List<Todo> contextTodos) {
         log.info("Processing chat message: {}", message);
 
         // AI 응답 시작 시간
         long startTime = System.currentTimeMillis();
 
-        String response = null;
+        // 서버가 보관한 대화 기억 (누적 요약 + 최근 턴)
+        ChatMemory memory = conversationMemory.snapshot(conversationId);
+
+        // 같은 질문 + 같은 할 일 + 같은 최근 대화면 캐시된 응답 사용 (토큰 비용 없음)
+        ChatResponseCache.Key cacheKey = responseCache.keyOf(message, memory, contextTodos);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            long responseTime = System.currentTimeMillis() - startTime;
+            log.info("Chat response served from cache in {}ms", responseTime);
+            recordResponseTime("blocking", true, responseTime);
+            recordTurn(conversationId, message, cached.get(), responseTime, 0);
+            return cached.get();
+        }
+
+        ChatReply reply;
         try {
             // OpenAI API 호출 (트랜잭션 없이 실행)
-            response = chatServicePort.chat(message, history, contextTodos);
+            reply = chatServicePort.chat(message, memory, contextTodos);
+            responseCache.put(cacheKey, reply.content());
             log.info("Chat response received successfully");
+        } catch (AiCircuitOpenException e) {
+            // 회로가 열려 있으면 기다리지 않고 규칙 기반으로 답함 (캐시/대화 기록에는 남기지 않음)
+            long responseTime = System.currentTimeMillis() - startTime;
+            recordResponseTime("blocking", false, responseTime);
+            log.info("AI circuit open, rule-based chat response in {}ms", responseTime);
+            return ruleBasedResponder.respond(message, contextTodos);
         } catch (Exception e) {
             log.error("Chat service failed: {}", e.getMessage(), e);
             throw e; // 예외를 그대로 던져서 정확한 오류 메시지가 전달되도록 함
@@ -48,43 +99,105 @@ public class ChatService implements ChatUseCase {
 
         // 응답 시간 계산
         long responseTime = System.currentTimeMillis() - startTime;
+        recordResponseTime("blocking", false, responseTime);
 
-        // PostgreSQL에 대화 저장 - 별도 트랜잭션에서 처리
-        try {
-            log.info("Attempting to save conversation to database...");
-            saveConversationInNewTransaction(message, response, history, responseTime, contextTodos);
-            log.info("Conversation saved successfully to database");
-        } catch (Exception e) {
-            // 저장 실패해도 응답은 정상 반환
-            log.error("Failed to save conversation to database: {}", e.getMessage(), e);
-        }
+        // PostgreSQL 저장은 write-behind 큐에 맡기고 바로 응답 (실패해도 응답은 정상 반환)
+        recordTurn(conversationId, message, reply.content(), responseTime, reply.totalTokens());
 
-        log.info("Chat response generated in {}ms", responseTime);
+        log.info("Chat response generated in {}ms ({} tokens)", responseTime, reply.totalTokens());
 
-        return response;
+        return reply.content();
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW, timeout = 30)
-    private void saveConversationInNewTransaction(String message, String response,
-                                                 List<ChatMessageDto> history,
-                                                 long responseTime,
-                                                 List<Todo> contextTodos) {
-        saveConversation(message, response, history, responseTime, contextTodos);
+    @Override
+    public Flux<String> chatStream(UUID conversationId, String message, List<Todo> contextTodos) {
+        return Flux.defer(() -> {
+            log.info("Processing chat stream: {}", message);
+
+            long startTime = System.currentTimeMillis();
+
+            ChatMemory memory = conversationMemory.snapshot(conversationId);
+
+            ChatResponseCache.Key cacheKey = responseCache.keyOf(message, memory, contextTodos);
+            Optional<String> cached = responseCache.get(cacheKey);
+            if (cached.isPresent()) {
+                log.info("Chat stream served from cache");
+                long responseTime = System.currentTimeMillis() - startTime;
+                recordResponseTime("stream", true, responseTime);
+                recordTurn(conversationId, message, cached.get(), responseTime, 0);
+                return Flux.just(cached.get());
+            }
+
+            StringBuilder assembled = new StringBuilder();
+            AtomicBoolean ruleBased = new AtomicBoolean(false);
+            AtomicReference<ChatReply> usage = new AtomicReference<>(ChatReply.usage(0, 0));
+
+            return streamOrFallback(message, memory, contextTodos)
+                    .onErrorResume(AiCircuitOpenException.class, e -> {
+                        log.info("AI circuit open, rule-based chat stream response");
+                        ruleBased.set(true);
+                        return Flux.just(ChatReply.text(ruleBasedResponder.respond(message, contextTodos)));
+                    })
+                    .doOnNext(reply -> {
+                        if (reply.hasUsage()) usage.set(reply);
+                    })
+                    .map(ChatReply::content)
+                    .filter(token -> !token.isEmpty())
+                    .doOnNext(token -> {
+                        if (assembled.isEmpty()) {
+                            long ttft = System.currentTimeMillis() - startTime;
+                            timeToFirstToken.record(ttft, TimeUnit.MILLISECONDS);
+                            log.info("Chat stream first token in {}ms", ttft);
+                        }
+                        assembled.append(token);
+                    })
+                    .doOnComplete(() -> {
+                        long responseTime = System.currentTimeMillis() - startTime;
+                        log.info("Chat stream completed in {}ms", responseTime);
+                        recordResponseTime("stream", false, responseTime);
+
+                        // 규칙 기반 응답은 캐시/대화 기록에 남기지 않음
+                        if (ruleBased.get()) return;
+
+                        // enqueue는 블로킹하지 않으므로 스트림 스레드에서 바로 호출
+                        String response = assembled.toString();
+                        responseCache.put(cacheKey, response);
+                        recordTurn(conversationId, message, response, responseTime, usage.get().totalTokens());
+                    });
+        });
+    }
+
+    /**
+     * 스트리밍 호출이 첫 토큰 전에 실패하면 기존 블로킹 호출로 한 번에 응답한다.
+     * 토큰이 이미 나간 뒤의 실패와 회로 차단은 그대로 전파한다.
+     */
+    private Flux<ChatReply> streamOrFallback(String message, ChatMemory memory, List<Todo> contextTodos) {
+        AtomicBoolean emitted = new AtomicBoolean(false);
+        return chatServicePort.chatStream(message, memory, contextTodos)
+                .doOnNext(token -> emitted.set(true))
+                .onErrorResume(e -> !emitted.get() && !(e instanceof AiCircuitOpenException), e -> {
+                    log.warn("Chat streaming unavailable, falling back to blocking call: {}", e.getMessage());
+                    return Mono.fromCallable(() -> chatServicePort.chat(message, memory, contextTodos))
+                            .subscribeOn(aiBlockingScheduler)
+                            .flux();
+                });
     }
 
-    private void saveConversation(String message, String response,
-                                  List<ChatMessageDto> history,
-                                  long responseTime,
-                                  List<Todo> contextTodos) {
+    /** 캐시 적중 포함 사용자가 체감한 전체 응답 시간 */
+    private void recordResponseTime(String mode, boolean cached, long millis) {
+        Timer.builder("chat.response")
+                .description("채팅 요청 처리 시간 (스트림은 마지막 토큰까지)")
+                .tag("mode", mode)
+                .tag("cache", cached ? "hit" : "miss")
+                .register(meterRegistry)
+                .record(millis, TimeUnit.MILLISECONDS);
+    }
 
+    /** tokensUsed: 이 턴에 실제로 쓴 토큰 (API usage 또는 조립된 프롬프트 기준 추정, 캐시 응답은 0) */
+    private void recordTurn(UUID conversationId, String message, String response, long responseTime, int tokensUsed) {
         // 세션 ID 생성 (실제로는 HTTP 세션이나 JWT에서 추출)
         String sessionId = generateSessionId();
 
-        // 기존 대화 가져오기 또는 새 대화 시작
-        ChatConversation conversation = conversationRepository
-                .findActiveBySessionId(sessionId)
-                .orElseGet(() -> createNewConversation(sessionId));
-
         // 사용자 메시지 추가
         ChatConversation.ChatMessage userMessage = ChatConversation.ChatMessage.builder()
                 .id(UUID.randomUUID().toString())
@@ -93,6 +206,9 @@ public class ChatService implements ChatUseCase {
                 .timestamp(LocalDateTime.now())
                 .build();
 
+        // 주제/의도/요약 유형을 한 번에 분류
+        KeywordClassifier.Classification classification = keywordClassifier.classify(message);
+
         // AI 응답 메시지 생성
         ChatConversation.ChatMessage assistantMessage = ChatConversation.ChatMessage.builder()
                 .id(UUID.randomUUID().toString())
@@ -101,94 +217,26 @@ public class ChatService implements ChatUseCase {
                 .timestamp(LocalDateTime.now())
                 .metadata(ChatConversation.MessageMetadata.builder()
                         .model("gpt-4o-mini")
-                        .tokensUsed(estimateTokens(message + response))
+                        .tokensUsed(tokensUsed)
                         .temperature(0.2)
                         .responseTimeMs(responseTime)
-                        .summaryType(detectSummaryType(message))
+                        .summaryType(classification.summaryType())
                         .build())
                 .build();
 
-        // 메시지들을 대화에 추가
-        List<ChatConversation.ChatMessage> currentMessages = conversation.getMessages();
-        if (currentMessages == null) {
-            currentMessages = new ArrayList<>();
-            conversation.setMessages(currentMessages);
-        }
-        currentMessages.add(userMessage);
-        currentMessages.add(assistantMessage);
-
-        // 마지막 메시지 시간 업데이트
-        conversation.setLastMessageAt(LocalDateTime.now());
-
-        // 메타데이터 업데이트
-        updateConversationMetadata(conversation, message, responseTime);
-
-        // PostgreSQL에 JSONB로 저장
-        conversationRepository.save(conversation);
-
-        log.info("Conversation saved to PostgreSQL with {} messages",
-                conversation.getMessages().size());
-    }
-
-    private ChatConversation createNewConversation(String sessionId) {
-        return ChatConversation.builder()
-                .id(UUID.randomUUID())
-                .sessionId(sessionId)
-                .startedAt(LocalDateTime.now())
-                .lastMessageAt(LocalDateTime.now())
-                .status(ChatConversation.ConversationStatus.ACTIVE)
-                .messages(new ArrayList<>())
-                .metadata(ChatConversation.ConversationMetadata.builder()
-                        .totalMessages(0)
-                        .totalTokensUsed(0)
-                        .totalDurationMs(0L)
-                        .topicsDiscussed(new ArrayList<>())
-                        .build())
+        // 메타데이터 증가분 (사용자 + AI 응답 = 2개 추가)
+        ChatConversation.ConversationMetadata delta = ChatConversation.ConversationMetadata.builder()
+                .totalMessages(2)
+                .totalTokensUsed(tokensUsed)
+                .totalDurationMs(responseTime)
+                .topicsDiscussed(classification.topics())
+                .primaryIntent(classification.intent())
                 .build();
-    }
-
-    private void updateConversationMetadata(ChatConversation conversation,
-                                            String message,
-                                            long responseTime) {
-        ChatConversation.ConversationMetadata metadata = conversation.getMetadata();
-        if (metadata == null) {
-            metadata = ChatConversation.ConversationMetadata.builder()
-                    .totalMessages(0)
-                    .totalTokensUsed(0)
-                    .totalDurationMs(0L)
-                    .topicsDiscussed(new ArrayList<>())
-                    .build();
-            conversation.setMetadata(metadata);
-        }
-
-        // 메시지 수 업데이트 (사용자 + AI 응답 = 2개 추가)
-        int currentMessages = metadata.getTotalMessages() != null ? metadata.getTotalMessages() : 0;
-        metadata.setTotalMessages(currentMessages + 2);
 
-        // 토큰 사용량 업데이트
-        int currentTokens = metadata.getTotalTokensUsed() != null ? metadata.getTotalTokensUsed() : 0;
-        metadata.setTotalTokensUsed(currentTokens + estimateTokens(message));
-
-        // 총 시간 업데이트
-        long totalDuration = metadata.getTotalDurationMs() != null ? metadata.getTotalDurationMs() : 0L;
-        metadata.setTotalDurationMs(totalDuration + responseTime);
-
-        // 주제 추출 및 업데이트
-        List<String> topics = extractTopics(message);
-        List<String> existingTopics = metadata.getTopicsDiscussed() != null ?
-                metadata.getTopicsDiscussed() : new ArrayList<>();
-
-        topics.forEach(topic -> {
-            if (!existingTopics.contains(topic)) {
-                existingTopics.add(topic);
-            }
-        });
-        metadata.setTopicsDiscussed(existingTopics);
-
-        // 주요 의도 파악
-        if (metadata.getPrimaryIntent() == null) {
-            metadata.setPrimaryIntent(detectIntent(message));
-        }
+        // 다음 턴의 프롬프트는 기억에서 바로 읽고, DB 저장은 write-behind 큐에 맡긴다
+        List<ChatConversation.ChatMessage> messages = List.of(userMessage, assistantMessage);
+        conversationMemory.append(conversationId, sessionId, messages);
+        conversationWriteBehind.enqueue(new ConversationTurn(conversationId, sessionId, messages, delta));
     }
 
     private String generateSessionId() {
@@ -196,70 +244,4 @@ public class ChatService implements ChatUseCase {
         // 여기서는 임시로 날짜 기반 세션 ID 생성
         return "session-" + LocalDateTime.now().toLocalDate().toString();
     }
-
-    private int estimateTokens(String text) {
-        // 간단한 토큰 추정 (실제로는 tiktoken 라이브러리 사용)
-        // 평균적으로 한글은 2-3자당 1토큰, 영어는 4자당 1토큰
-        return text.length() / 3;
-    }
-
-    private String detectSummaryType(String message) {
-        String lowerMessage = message.toLowerCase();
-
-        if (lowerMessage.contains("오늘") || lowerMessage.contains("today")) {
-            return "daily";
-        } else if (lowerMessage.contains("이번 주") || lowerMessage.contains("week")) {
-            return "weekly";
-        } else if (lowerMessage.contains("이번 달") || lowerMessage.contains("month")) {
-            return "monthly";
-        } else if (lowerMessage.contains("내일") || lowerMessage.contains("tomorrow")) {
-            return "tomorrow";
-        }
-
-        return "general";
-    }
-
-    private List<String> extractTopics(String message) {
-        List<String> topics = new ArrayList<>();
-        String lowerMessage = message.toLowerCase();
-
-        // 주제 키워드 매핑
-        Map<String, String> topicKeywords = new HashMap<>();
-        topicKeywords.put("일정", "schedule");
-        topicKeywords.put("할 일", "todo");
-        topicKeywords.put("요약", "summary");
-        topicKeywords.put("통계", "statistics");
-        topicKeywords.put("완료", "completed");
-        topicKeywords.put("미완료", "pending");
-        topicKeywords.put("오늘", "today");
-        topicKeywords.put("내일", "tomorrow");
-        topicKeywords.put("이번 주", "week");
-        topicKeywords.put("이번 달", "month");
-
-        topicKeywords.forEach((keyword, topic) -> {
-            if (lowerMessage.contains(keyword)) {
-                topics.add(topic);
-            }
-        });
-
-        return topics;
-    }
-
-    private String detectIntent(String message) {
-        String lowerMessage = message.toLowerCase();
-
-        if (lowerMessage.contains("요약") || lowerMessage.contains("정리")) {
-            return "summarize";
-        } else if (lowerMessage.contains("추가") || lowerMessage.contains("생성")) {
-            return "create";
-        } else if (lowerMessage.contains("삭제") || lowerMessage.contains("제거")) {
-            return "delete";
-        } else if (lowerMessage.contains("수정") || lowerMessage.contains("변경")) {
-            return "update";
-        } else if (lowerMessage.contains("분석") || lowerMessage.contains("통계")) {
-            return "analyze";
-        }
-
-        return "query";
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package com.best.caltodocrud.application.service.chat;
+
+import com.best.caltodocrud.application.port.out.ChatConversationRepositoryPort;
+import com.best.caltodocrud.application.port.out.ChatServicePort;
+import com.best.caltodocrud.domain.ChatConversation;
+import com.best.caltodocrud.domain.ChatMemory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서버가 보관하는 대화 기억 (conversationId 기준)
+ * - 핫 티어: 최근 대화의 누적 요약 + 아직 요약되지 않은 메시지를 메모리에 보관
+ * - 핫 티어에 없으면 대화 헤더(누적 요약) + 최근 메시지만 DB에서 읽어 채운다
+ * - 요약되지 않은 메시지가 compress-after-messages개를 넘으면 백그라운드에서
+ *   keep-recent-messages개만 남기고 나머지를 누적 요약에 접어 넣는다
+ * - 새 요약은 write-behind 큐로 저장되므로 메시지 저장 순서와 어긋나지 않는다
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.ai", name = "enabled", havingValue = "true")
+public class ConversationMemoryStore {
+
+    private final ChatConversationRepositoryPort conversationRepository;
+    private final ChatServicePort chatServicePort;
+    private final ConversationWriteBehind conversationWriteBehind;
+    private final Cache<UUID, Entry> hot;
+    private final Set<UUID> pendingCompression = ConcurrentHashMap.newKeySet();
+    private final int compressAfterMessages;
+    private final int keepRecentMessages;
+    private final int maxRecentMessages;
+    private final Counter compressions;
+    private final Counter compressionFailures;
+
+    public ConversationMemoryStore(ChatConversationRepositoryPort conversationRepository,
+                                   ChatServicePort chatServicePort,
+                                   ConversationWriteBehind conversationWriteBehind,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.chat.memory.hot-ttl:30m}") Duration hotTtl,
+                                   @Value("${app.chat.memory.hot-max-size:10000}") long hotMaxSize,
+                                   @Value("${app.chat.memory.compress-after-messages:16}") int compressAfterMessages,
+                                   @Value("${app.chat.memory.keep-recent-messages:6}") int keepRecentMessages,
+                                   @Value("${app.chat.memory.max-recent-messages:64}") int maxRecentMessages) {
+        this.conversationRepository = conversationRepository;
+        this.chatServicePort = chatServicePort;
+        this.conversationWriteBehind = conversationWriteBehind;
+        this.hot = Caffeine.newBuilder()
+                .expireAfterAccess(hotTtl)
+                .maximumSize(hotMaxSize)
+                .recordStats()
+                .build();
+        this.compressAfterMessages = compressAfterMessages;
+        this.keepRecentMessages = keepRecentMessages;
+        this.maxRecentMessages = maxRecentMessages;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, hot, "chat.memory");
+        this.compressions = Counter.builder("chat.memory.compressions").tag("result", "success").register(meterRegistry);
+        this.compressionFailures = Counter.builder("chat.memory.compressions").tag("result", "failure").register(meterRegistry);
+        Gauge.builder("chat.memory.compression.pending", pendingCompression, Set::size)
+                .description("누적 요약 대기 중인 대화 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 프롬프트 조립용 스냅샷 (누적 요약 + 요약되지 않은 최근 메시지)
+     */
+    public ChatMemory snapshot(UUID conversationId) {
+        Entry entry = hot.get(conversationId, this::load);
+        entry.lock.lock();
+        try {
+            return new ChatMemory(entry.summary, List.copyOf(entry.recent));
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    /**
+     * 한 턴의 메시지를 기억에 추가 (DB 저장은 호출 측이 write-behind 큐에 맡긴다)
+     */
+    public void append(UUID conversationId, String sessionId, List<ChatConversation.ChatMessage> messages) {
+        Entry entry = hot.get(conversationId, this::load);
+        entry.lock.lock();
+        try {
+            if (entry.sessionId == null) entry.sessionId = sessionId;
+            entry.recent.addAll(messages);
+            entry.totalMessages += messages.size();
+
+            // 요약이 계속 실패해도 메모리는 무한히 늘지 않게 (잘린 메시지는 DB에는 남아 있음)
+            while (entry.recent.size() > maxRecentMessages) {
+                entry.recent.pollFirst();
+            }
+            if (entry.recent.size() > compressAfterMessages) {
+                pendingCompression.add(conversationId);
+            }
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.memory.compress-interval:5s}",
+            initialDelayString = "${app.chat.memory.compress-interval:5s}")
+    public void compressPending() {
+        if (pendingCompression.isEmpty()) return;
+
+        for (UUID conversationId : List.copyOf(pendingCompression)) {
+            pendingCompression.remove(conversationId);
+            try {
+                compress(conversationId);
+            } catch (Exception e) {
+                compressionFailures.increment();
+                log.warn("Conversation compression failed for {}: {}", conversationId, e.getMessage());
+            }
+        }
+    }
+
+    private void compress(UUID conversationId) {
+        // 만료된 대화는 다음 로드 때 DB의 요약 기준으로 다시 판단
+        Entry entry = hot.getIfPresent(conversationId);
+        if (entry == null) return;
+
+        String previousSummary;
+        List<ChatConversation.ChatMessage> folded;
+        entry.lock.lock();
+        try {
+            int foldCount = entry.recent.size() - keepRecentMessages;
+            if (foldCount <= 0) return;
+            previousSummary = entry.summary;
+            folded = new ArrayList<>(entry.recent).subList(0, foldCount);
+        } finally {
+            entry.lock.unlock();
+        }
+
+        // LLM 호출은 락 밖에서 (그동안 새 턴은 뒤에 계속 붙는다)
+        String summary = chatServicePort.summarizeConversation(previousSummary, folded);
+        if (summary == null || summary.isBlank()) {
+            compressionFailures.increment();
+            return;
+        }
+
+        ConversationTurn update;
+        entry.lock.lock();
+        try {
+            // 그사이 상한 때문에 앞에서 잘린 메시지가 있을 수 있어 id로 제거
+            Set<String> foldedIds = new HashSet<>();
+            folded.forEach(m -> foldedIds.add(m.getId()));
+            entry.recent.removeIf(m -> foldedIds.contains(m.getId()));
+            entry.summary = summary;
+
+            update = new ConversationTurn(conversationId, entry.sessionId, List.of(),
+                    ChatConversation.ConversationMetadata.builder()
+                            .totalMessages(0)
+                            .runningSummary(summary)
+                            .summarizedMessages(entry.totalMessages - entry.recent.size())
+                            .build());
+        } finally {
+            entry.lock.unlock();
+        }
+
+        conversationWriteBehind.enqueue(update);
+        compressions.increment();
+        log.debug("Compressed {} messages of conversation {} into running summary", folded.size(), conversationId);
+    }
+
+    private Entry load(UUID conversationId) {
+        Entry entry = new Entry();
+        conversationRepository.findHeaderById(conversationId).ifPresent(header -> {
+            ChatConversation.ConversationMetadata metadata = header.getMetadata();
+            int total = metadata.getTotalMessages() != null ? metadata.getTotalMessages() : 0;
+            int summarized = metadata.getSummarizedMessages() != null ? metadata.getSummarizedMessages() : 0;
+            int unsummarized = Math.min(Math.max(0, total - summarized), maxRecentMessages);
+
+            entry.sessionId = header.getSessionId();
+            entry.summary = metadata.getRunningSummary();
+            entry.totalMessages = total;
+            if (unsummarized > 0) {
+                conversationRepository.findWithRecentMessages(conversationId, unsummarized)
+                        .ifPresent(c -> entry.recent.addAll(c.getMessages()));
+            }
+        });
+        return entry;
+    }
+
+    private static final class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<ChatConversation.ChatMessage> recent = new ArrayDeque<>();
+        private String sessionId;
+        private String summary;
+        private int totalMessages; // 요약/잘림 포함 지금까지의 메시지 수
+    }
+}
@@ -0,0 +1,20 @@
+package com.best.caltodocrud.application.service.chat;
+
+import com.best.caltodocrud.domain.ChatConversation;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 저장 대기 중인 대화 한 턴 (사용자 메시지 + AI 응답, 또는 누적 요약 갱신만)
+ *
+ * @param conversationId 턴이 속한 대화 (없으면 새로 만든다)
+ * @param sessionId      대화를 새로 만들 때 기록할 세션
+ * @param messages       추가할 메시지 (순서 유지, 요약 갱신만이면 비어 있음)
+ * @param delta          대화 메타데이터 증가분
+ */
+record ConversationTurn(UUID conversationId,
+                        String sessionId,
+                        List<ChatConversation.ChatMessage> messages,
+                        ChatConversation.ConversationMetadata delta) {
+}
@@ -0,0 +1,235 @@
+package com.best.caltodocrud.application.service.chat;
+
+import com.best.caltodocrud.application.port.out.ChatConversationRepositoryPort;
+import com.best.caltodocrud.domain.ChatConversation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 저장 write-behind 큐
+ * - 요청 스레드는 enqueue만 하고 바로 응답한다 (DB 지연이 채팅 응답에 포함되지 않음)
+ * - 백그라운드 flusher가 쌓인 턴을 대화별로 묶어 대화당 한 트랜잭션으로 저장
+ * - 큐가 가득 차면 offer-timeout만큼 기다린 뒤 버리고 drop 카운터를 올린다
+ * - 종료 시 남은 턴을 모두 저장한 뒤 멈춘다
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.ai", name = "enabled", havingValue = "true")
+public class ConversationWriteBehind implements SmartLifecycle {
+
+    private final ChatConversationRepositoryPort conversationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ConversationTurn> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+
+    private final Counter enqueuedTurns;
+    private final Counter droppedTurns;
+    private final Counter flushedTurns;
+    private final Counter failedTurns;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ConversationWriteBehind(ChatConversationRepositoryPort conversationRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.chat.persist.queue-capacity:1000}") int queueCapacity,
+                                   @Value("${app.chat.persist.batch-size:100}") int batchSize,
+                                   @Value("${app.chat.persist.flush-interval:200ms}") Duration flushInterval,
+                                   @Value("${app.chat.persist.offer-timeout:0ms}") Duration offerTimeout,
+                                   @Value("${app.chat.persist.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.conversationRepository = conversationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(30);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+
+        this.enqueuedTurns = Counter.builder("chat.persist.turns").tag("result", "enqueued").register(meterRegistry);
+        this.droppedTurns = Counter.builder("chat.persist.turns").tag("result", "dropped").register(meterRegistry);
+        this.flushedTurns = Counter.builder("chat.persist.turns").tag("result", "flushed").register(meterRegistry);
+        this.failedTurns = Counter.builder("chat.persist.turns").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("chat.persist.queue.size", queue, Collection::size)
+                .description("저장 대기 중인 대화 턴 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 턴을 저장 큐에 넣는다. 가득 차 있으면 false (턴은 버려진다)
+     */
+    public boolean enqueue(ConversationTurn turn) {
+        if (!running) {
+            droppedTurns.increment();
+            log.warn("Conversation write-behind is stopped - dropping turn for conversation {}", turn.conversationId());
+            return false;
+        }
+
+        boolean accepted;
+        try {
+            accepted = offerTimeout.isZero()
+                    ? queue.offer(turn)
+                    : queue.offer(turn, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (accepted) {
+            enqueuedTurns.increment();
+        } else {
+            droppedTurns.increment();
+            log.warn("Conversation write-behind queue is full ({}) - dropping turn for conversation {}",
+                    queue.size(), turn.conversationId());
+        }
+        return accepted;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Conversation write-behind started (capacity={}, batchSize={})",
+                queue.remainingCapacity(), batchSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            flusher.interrupt();
+            log.warn("Conversation write-behind did not drain in {} - {} turns left unsaved",
+                    shutdownTimeout, queue.size());
+        } else {
+            log.info("Conversation write-behind drained and stopped");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runFlusher() {
+        List<ConversationTurn> batch = new ArrayList<>(batchSize);
+        // 종료 요청 후에도 큐가 빌 때까지 계속 저장
+        while (running || !queue.isEmpty()) {
+            try {
+                ConversationTurn first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<ConversationTurn> batch) {
+        // 대화별로 묶되 도착 순서는 유지
+        Map<UUID, List<ConversationTurn>> byConversation = new LinkedHashMap<>();
+        for (ConversationTurn turn : batch) {
+            byConversation.computeIfAbsent(turn.conversationId(), k -> new ArrayList<>()).add(turn);
+        }
+
+        byConversation.forEach((conversationId, turns) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(conversationId, turns));
+                flushedTurns.increment(turns.size());
+            } catch (Exception e) {
+                failedTurns.increment(turns.size());
+                log.error("Failed to save {} turns for conversation {}: {}",
+                        turns.size(), conversationId, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void persist(UUID conversationId, List<ConversationTurn> turns) {
+        ChatConversation conversation = conversationRepository
+                .findHeaderById(conversationId)
+                .orElseGet(() -> conversationRepository.create(newConversation(conversationId, turns.get(0).sessionId())));
+
+        List<ChatConversation.ChatMessage> messages = new ArrayList<>();
+        int totalMessages = 0;
+        int totalTokens = 0;
+        long totalDuration = 0L;
+        LinkedHashSet<String> topics = new LinkedHashSet<>();
+        String primaryIntent = null;
+        String runningSummary = null;
+        Integer summarizedMessages = null;
+
+        for (ConversationTurn turn : turns) {
+            messages.addAll(turn.messages());
+            ChatConversation.ConversationMetadata delta = turn.delta();
+            totalMessages += delta.getTotalMessages() != null ? delta.getTotalMessages() : turn.messages().size();
+            totalTokens += delta.getTotalTokensUsed() != null ? delta.getTotalTokensUsed() : 0;
+            totalDuration += delta.getTotalDurationMs() != null ? delta.getTotalDurationMs() : 0L;
+            if (delta.getTopicsDiscussed() != null) topics.addAll(delta.getTopicsDiscussed());
+            if (primaryIntent == null) primaryIntent = delta.getPrimaryIntent();
+            // 누적 요약은 마지막 값만 의미가 있음
+            if (delta.getRunningSummary() != null) {
+                runningSummary = delta.getRunningSummary();
+                summarizedMessages = delta.getSummarizedMessages();
+            }
+        }
+
+        conversationRepository.appendMessages(conversation.getId(), messages,
+                ChatConversation.ConversationMetadata.builder()
+                        .totalMessages(totalMessages)
+                        .totalTokensUsed(totalTokens)
+                        .totalDurationMs(totalDuration)
+                        .topicsDiscussed(new ArrayList<>(topics))
+                        .primaryIntent(primaryIntent)
+                        .runningSummary(runningSummary)
+                        .summarizedMessages(summarizedMessages)
+                        .build());
+    }
+
+    private ChatConversation newConversation(UUID conversationId, String sessionId) {
+        return ChatConversation.builder()
+                .id(conversationId)
+                .sessionId(sessionId)
+                .startedAt(LocalDateTime.now())
+                .lastMessageAt(LocalDateTime.now())
+                .status(ChatConversation.ConversationStatus.ACTIVE)
+                .messages(new ArrayList<>())
+                .metadata(ChatConversation.ConversationMetadata.builder()
+                        .totalMessages(0)
+                        .totalTokensUsed(0)
+                        .totalDurationMs(0L)
+                        .topicsDiscussed(new ArrayList<>())
+                        .build())
+                .build();
+    }
+}
@@ -1,13 +1,14 @@
 package com.best.caltodocrud.application.service.chat;
 
-import com.best.caltodocrud.api.chat.dto.ChatMessageDto;
 import com.best.caltodocrud.application.port.in.chat.ChatUseCase;
 import com.best.caltodocrud.domain.Todo;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @Slf4j
@@ -15,10 +16,15 @@ import java.util.List;
 public class FallbackChatService implements ChatUseCase {
 
     @Override
-    public String chat(String message, List<ChatMessageDto> history, List<Todo> contextTodos) {
+    public String chat(UUID conversationId, String message, List<Todo> contextTodos) {
         log.warn("AI service is disabled - returning fallback response");
 
         return "AI 서비스가 비활성화되어 있습니다. " +
                "OpenAI API 키를 설정하고 app.ai.enabled=true로 변경해주세요.";
     }
-}
\ No newline at end of file
+
+    @Override
+    public Flux<String> chatStream(UUID conversationId, String message, List<Todo> contextTodos) {
+        return Flux.just(chat(conversationId, message, contextTodos));
+    }
+}
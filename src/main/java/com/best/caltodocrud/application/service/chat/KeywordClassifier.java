@@ -0,0 +1,218 @@
+package com.best.caltodocrud.application.service.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 채팅 메시지의 주제/의도/요약 유형을 한 번의 스캔으로 분류
+ * - 시작 시 키워드 표(app.chat.keywords-location)로 Aho-Corasick 오토마톤을 한 번 만듦
+ * - 분류는 메시지를 글자 단위로 한 번만 훑음 (소문자 변환도 글자 단위, 문자열 복사 없음)
+ * - 전이는 노드별 정렬된 char 배열 + 이진 탐색이라 박싱/맵 조회가 없고, 결과 외에는 할당하지 않음
+ * - 키워드를 늘려도 스캔 비용은 메시지 길이에 비례 (키워드 수와 무관)
+ */
+@Slf4j
+@Component
+public class KeywordClassifier {
+
+    static final String DEFAULT_INTENT = "query";
+    static final String DEFAULT_SUMMARY_TYPE = "general";
+
+    private static final int TOPIC = 0;
+    private static final int INTENT = 1;
+    private static final int SUMMARY = 2;
+
+    /** 분류 결과 */
+    public record Classification(List<String> topics, String intent, String summaryType) {
+    }
+
+    // 규칙 (줄 순서 = 우선순위)
+    private final int[] ruleCategory;
+    private final String[] ruleLabel;
+    // topic 규칙 → topic 번호 (비트 위치), 그 외 -1
+    private final int[] ruleTopicIndex;
+    private final String[] topicLabels;
+
+    // 오토마톤: 노드별 전이(정렬된 문자 → 다음 노드), 실패 링크, 출력 규칙(실패 링크 출력 포함)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[][] outputs;
+
+    public KeywordClassifier(@Value("${app.chat.keywords-location:classpath:chat/keywords.txt}") Resource location)
+            throws IOException {
+        this(parse(location));
+        log.info("Keyword classifier loaded from {}: {} rules, {} states", location, ruleLabel.length, fail.length);
+    }
+
+    KeywordClassifier(List<Rule> rules) {
+        int n = rules.size();
+        this.ruleCategory = new int[n];
+        this.ruleLabel = new String[n];
+        this.ruleTopicIndex = new int[n];
+        List<String> topics = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Rule r = rules.get(i);
+            ruleCategory[i] = r.category();
+            ruleLabel[i] = r.label();
+            ruleTopicIndex[i] = -1;
+            if (r.category() == TOPIC) {
+                int idx = topics.indexOf(r.label());
+                if (idx < 0) {
+                    idx = topics.size();
+                    topics.add(r.label());
+                }
+                ruleTopicIndex[i] = idx;
+            }
+        }
+        this.topicLabels = topics.toArray(String[]::new);
+
+        // 1) 트라이
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Set<Integer>> out = new ArrayList<>();
+        children.add(new TreeMap<>());
+        out.add(new TreeSet<>());
+        for (int i = 0; i < n; i++) {
+            for (String keyword : rules.get(i).keywords()) {
+                int node = 0;
+                for (int k = 0; k < keyword.length(); k++) {
+                    char c = keyword.charAt(k);
+                    Integer next = children.get(node).get(c);
+                    if (next == null) {
+                        next = children.size();
+                        children.add(new TreeMap<>());
+                        out.add(new TreeSet<>());
+                        children.get(node).put(c, next);
+                    }
+                    node = next;
+                }
+                out.get(node).add(i);
+            }
+        }
+
+        // 2) 실패 링크 (BFS), 출력은 실패 링크의 출력까지 합침
+        int size = children.size();
+        int[] failLinks = new int[size];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : children.get(0).values()) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> e : children.get(node).entrySet()) {
+                int child = e.getValue();
+                int f = failLinks[node];
+                while (f > 0 && !children.get(f).containsKey(e.getKey())) {
+                    f = failLinks[f];
+                }
+                Integer target = children.get(f).get(e.getKey());
+                failLinks[child] = (target != null && target != child) ? target : 0;
+                out.get(child).addAll(out.get(failLinks[child]));
+                queue.add(child);
+            }
+        }
+
+        // 3) 배열로 고정
+        this.fail = failLinks;
+        this.edgeChars = new char[size][];
+        this.edgeTargets = new int[size][];
+        this.outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int k = 0;
+            for (Map.Entry<Character, Integer> e : edges.entrySet()) {
+                edgeChars[node][k] = e.getKey();
+                edgeTargets[node][k] = e.getValue();
+                k++;
+            }
+            outputs[node] = out.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    public Classification classify(String message) {
+        if (message == null || message.isEmpty()) {
+            return new Classification(List.of(), DEFAULT_INTENT, DEFAULT_SUMMARY_TYPE);
+        }
+
+        long[] topicBits = new long[(topicLabels.length + 63) >>> 6];
+        int bestIntent = Integer.MAX_VALUE;
+        int bestSummary = Integer.MAX_VALUE;
+
+        int node = 0;
+        for (int i = 0; i < message.length(); i++) {
+            char c = Character.toLowerCase(message.charAt(i));
+            int next;
+            while ((next = next(node, c)) < 0 && node != 0) {
+                node = fail[node];
+            }
+            node = Math.max(next, 0);
+
+            for (int rule : outputs[node]) {
+                switch (ruleCategory[rule]) {
+                    case TOPIC -> topicBits[ruleTopicIndex[rule] >>> 6] |= 1L << ruleTopicIndex[rule];
+                    case INTENT -> bestIntent = Math.min(bestIntent, rule);
+                    default -> bestSummary = Math.min(bestSummary, rule);
+                }
+            }
+        }
+
+        int found = 0;
+        for (long word : topicBits) found += Long.bitCount(word);
+        List<String> topics = new ArrayList<>(found);
+        for (int t = 0; t < topicLabels.length; t++) {
+            if ((topicBits[t >>> 6] & (1L << t)) != 0) topics.add(topicLabels[t]);
+        }
+        return new Classification(topics,
+                bestIntent == Integer.MAX_VALUE ? DEFAULT_INTENT : ruleLabel[bestIntent],
+                bestSummary == Integer.MAX_VALUE ? DEFAULT_SUMMARY_TYPE : ruleLabel[bestSummary]);
+    }
+
+    private int next(int node, char c) {
+        int k = Arrays.binarySearch(edgeChars[node], c);
+        return k >= 0 ? edgeTargets[node][k] : -1;
+    }
+
+    record Rule(int category, String label, List<String> keywords) {
+    }
+
+    static List<Rule> parse(Resource location) throws IOException {
+        List<Rule> rules = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                String[] parts = line.split("\\|");
+                if (parts.length != 3) {
+                    throw new IllegalStateException("Invalid keyword rule at " + location + ":" + lineNo + " - " + line);
+                }
+                int category = switch (parts[0].strip()) {
+                    case "topic" -> TOPIC;
+                    case "intent" -> INTENT;
+                    case "summary" -> SUMMARY;
+                    default -> throw new IllegalStateException(
+                            "Unknown keyword category at " + location + ":" + lineNo + " - " + parts[0].strip());
+                };
+                List<String> keywords = Arrays.stream(parts[2].split(","))
+                        .map(k -> k.strip().toLowerCase(Locale.ROOT))
+                        .filter(k -> !k.isEmpty())
+                        .toList();
+                rules.add(new Rule(category, parts[1].strip(), keywords));
+            }
+        }
+        return rules;
+    }
+}
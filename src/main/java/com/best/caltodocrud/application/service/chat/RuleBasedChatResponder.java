@@ -0,0 +1,59 @@
+package com.best.caltodocrud.application.service.chat;
+
+import com.best.caltodocrud.domain.Todo;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * AI를 쓸 수 없을 때(회로 차단)의 규칙 기반 채팅 응답
+ * - 키워드 분류 결과와 오늘의 할 일만으로 즉시 답한다 (외부 호출 없음)
+ * - 생성/수정/삭제 의도면 화면에서 직접 하도록 안내, 그 외에는 진행률과 남은 할 일
+ */
+@Component
+public class RuleBasedChatResponder {
+
+    private static final int MAX_LISTED = 5;
+    private static final String NOTICE = "지금은 AI 응답이 원활하지 않아 간단히 안내해 드려요.\n";
+
+    private final KeywordClassifier keywordClassifier;
+
+    public RuleBasedChatResponder(KeywordClassifier keywordClassifier) {
+        this.keywordClassifier = keywordClassifier;
+    }
+
+    public String respond(String message, List<Todo> contextTodos) {
+        KeywordClassifier.Classification classification = keywordClassifier.classify(message);
+        StringBuilder response = new StringBuilder(NOTICE);
+
+        switch (classification.intent()) {
+            case "create", "update", "delete" -> {
+                response.append("할 일 추가·수정·삭제는 캘린더에서 날짜를 눌러 바로 하실 수 있어요.");
+                return response.toString();
+            }
+            default -> { }
+        }
+
+        if (contextTodos == null || contextTodos.isEmpty()) {
+            response.append("오늘 등록된 할 일이 없어요.");
+            return response.toString();
+        }
+
+        List<Todo> pending = contextTodos.stream().filter(t -> !t.isDone()).toList();
+        int done = contextTodos.size() - pending.size();
+        response.append("오늘 할 일 ").append(contextTodos.size()).append("건 중 ")
+                .append(done).append("건 완료 (").append(done * 100 / contextTodos.size()).append("%)");
+
+        if (pending.isEmpty()) {
+            response.append("\n모두 끝냈어요! ✅");
+            return response.toString();
+        }
+
+        response.append("\n남은 할 일:");
+        pending.stream().limit(MAX_LISTED).forEach(t -> response.append("\n  ◯ ").append(t.getText()));
+        if (pending.size() > MAX_LISTED) {
+            response.append("\n  … 외 ").append(pending.size() - MAX_LISTED).append("건");
+        }
+        return response.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.best.caltodocrud.application.service.support;
+
+import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
+import com.best.caltodocrud.domain.ChatConversation;
+import com.best.caltodocrud.domain.ChatMemory;
+import com.best.caltodocrud.domain.Todo;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 캐시 키용 내용 지문(SHA-256)
+ * 필드 사이에 구분자를 넣어 ("ab","c")와 ("a","bc")가 같은 지문이 되지 않도록 한다
+ */
+public final class Fingerprints {
+
+    private static final byte FIELD = 0x1F;
+    private static final byte RECORD = 0x1E;
+
+    private Fingerprints() {}
+
+    public static String todos(List<Todo> todos) {
+        MessageDigest digest = sha256();
+        if (todos != null) {
+            for (Todo t : todos) {
+                field(digest, String.valueOf(t.getId()));
+                field(digest, t.getText());
+                field(digest, t.isDone() ? "1" : "0");
+                field(digest, t.getDate().toString());
+                digest.update(RECORD);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String summaryTodos(List<SummarizeScheduleCommand.Todo> todos) {
+        MessageDigest digest = sha256();
+        if (todos != null) {
+            for (SummarizeScheduleCommand.Todo t : todos) {
+                field(digest, t.getId());
+                field(digest, t.getText());
+                field(digest, t.isDone() ? "1" : "0");
+                field(digest, t.getDate());
+                digest.update(RECORD);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /** 누적 요약 + 최근 메시지의 마지막 tail개만 반영 */
+    public static String memoryTail(ChatMemory memory, int tail) {
+        MessageDigest digest = sha256();
+        if (memory != null) {
+            field(digest, memory.summary());
+            digest.update(RECORD);
+            List<ChatConversation.ChatMessage> recent = memory.recentMessages();
+            int start = Math.max(0, recent.size() - Math.max(0, tail));
+            for (ChatConversation.ChatMessage m : recent.subList(start, recent.size())) {
+                field(digest, m.getRole());
+                field(digest, m.getContent());
+                digest.update(RECORD);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void field(MessageDigest digest, String value) {
+        if (value != null) digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update(FIELD);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -3,23 +3,30 @@ package com.best.caltodocrud.application.service.todo;
 import com.best.caltodocrud.application.port.in.todo.CreateTodoUseCase;
 import com.best.caltodocrud.application.port.out.TodoRepositoryPort;
 import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 public class CreateTodoService implements CreateTodoUseCase {
 
     private final TodoRepositoryPort repo;
+    private final ApplicationEventPublisher events;
 
     @Transactional
     @Override
-    public Todo create(String text, String date) {
+    public Todo create(String text, LocalDate date) {
         Assert.hasText(text, "text must not be empty");
-        Assert.hasText(date, "date must not be empty");
+        Assert.notNull(date, "date must not be null");
         var todo = new Todo(null, text.trim(), false, date);
-        return repo.save(todo);
+        var saved = repo.save(todo);
+        events.publishEvent(TodoChangedEvent.of(saved.getDate()));
+        return saved;
     }
 }
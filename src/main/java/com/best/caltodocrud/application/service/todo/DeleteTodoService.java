@@ -2,7 +2,9 @@ package com.best.caltodocrud.application.service.todo;
 
 import com.best.caltodocrud.application.port.in.todo.DeleteTodoUseCase;
 import com.best.caltodocrud.application.port.out.TodoRepositoryPort;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,10 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteTodoService implements DeleteTodoUseCase {
 
     private final TodoRepositoryPort repo;
+    private final ApplicationEventPublisher events;
 
     @Override
     @Transactional
     public void delete(Long id) {
+        // 어느 날짜가 바뀌는지 알아야 캐시를 정확히 무효화할 수 있다
+        repo.findById(id).ifPresent(todo -> events.publishEvent(TodoChangedEvent.of(todo.getDate())));
         repo.deleteById(id);
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -16,18 +17,27 @@ public class GetTodosService implements GetTodosUseCase {
 
     private final TodoRepositoryPort repo;
 
-    @Transactional(readOnly = true)
+    // findByDate/findRange는 날짜별 캐시(CachingTodoRepository)를 거치므로 트랜잭션을 열지 않는다
+    // 적중하면 DB 연결 없이 끝나고, 빠진 날짜만 저장소 쿼리의 읽기 전용 트랜잭션에서 읽는다
     @Override
-    public List<Todo> findByDate(String date) {
-        Assert.hasText(date, "date must not be empty");
+    public List<Todo> findByDate(LocalDate date) {
+        Assert.notNull(date, "date must not be null");
         return repo.findByDate(date);
     }
 
-    @Transactional(readOnly = true)
     @Override
-    public List<Todo> findRange(String from, String to) {
-        Assert.hasText(from, "from must not be empty");
-        Assert.hasText(to, "to must not be empty");
+    public List<Todo> findRange(LocalDate from, LocalDate to) {
+        Assert.notNull(from, "from must not be null");
+        Assert.notNull(to, "to must not be null");
         return repo.findRange(from, to);
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Todo> findRangeAfter(LocalDate afterDate, long afterId, LocalDate to, int limit) {
+        Assert.notNull(afterDate, "afterDate must not be null");
+        Assert.notNull(to, "to must not be null");
+        Assert.isTrue(limit > 0, "limit must be positive");
+        return repo.findRangeAfter(afterDate, afterId, to, limit);
+    }
 }
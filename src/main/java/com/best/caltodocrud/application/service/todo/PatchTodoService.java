@@ -0,0 +1,65 @@
+package com.best.caltodocrud.application.service.todo;
+
+import com.best.caltodocrud.application.port.in.todo.PatchTodoUseCase;
+import com.best.caltodocrud.application.port.out.TodoRepositoryPort;
+import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
+import com.best.caltodocrud.domain.exception.TodoNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 읽기 없이 UPDATE ... RETURNING 한 문장으로 바꾸는 부분 수정/일괄 완료 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class PatchTodoService implements PatchTodoUseCase {
+
+    private final TodoRepositoryPort repo;
+    private final ApplicationEventPublisher events;
+
+    @Transactional
+    @Override
+    public Todo patch(Long id, String text, Boolean done) {
+        Assert.notNull(id, "id must not be null");
+        Assert.isTrue(text != null || done != null, "text or done must be given");
+        if (text != null) Assert.hasText(text, "text must not be empty");
+
+        var saved = repo.patch(id, text != null ? text.trim() : null, done)
+                .orElseThrow(() -> new TodoNotFoundException(id));
+        events.publishEvent(TodoChangedEvent.of(saved.getDate()));
+        return saved;
+    }
+
+    @Transactional
+    @Override
+    public List<Todo> setDone(Collection<Long> ids, boolean done) {
+        Assert.notEmpty(ids, "ids must not be empty");
+        return published(repo.updateDone(ids, done));
+    }
+
+    @Transactional
+    @Override
+    public List<Todo> setDoneByDate(LocalDate date, boolean done) {
+        Assert.notNull(date, "date must not be null");
+        return published(repo.updateDoneByDate(date, done));
+    }
+
+    // 실제로 바뀐 날짜만 무효화
+    private List<Todo> published(List<Todo> changed) {
+        if (!changed.isEmpty()) {
+            events.publishEvent(new TodoChangedEvent(changed.stream()
+                    .map(t -> t.getDate().toString())
+                    .collect(Collectors.toSet())));
+        }
+        return changed;
+    }
+}
@@ -1,77 +1,81 @@
 package com.best.caltodocrud.application.service.todo;
 
 import com.best.caltodocrud.api.todo.dto.TodoSyncRequest;
-import com.best.caltodocrud.application.port.in.todo.CreateTodoUseCase;
-import com.best.caltodocrud.application.port.in.todo.GetTodosUseCase;
-import com.best.caltodocrud.application.port.in.todo.UpdateTodoUseCase;
+import com.best.caltodocrud.application.port.out.TodoRepositoryPort;
 import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * 프론트 로컬 데이터 동기화 - 항목 수와 상관없이 (date, text) 기준 upsert 한 문장
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class TodoSyncService {
 
-    private final CreateTodoUseCase createUseCase;
-    private final UpdateTodoUseCase updateUseCase;
-    private final GetTodosUseCase getTodosUseCase;
+    private static final int MAX_TEXT_LENGTH = 200; // todos.text VARCHAR(200)
+
+    private final TodoRepositoryPort repo;
+    private final ApplicationEventPublisher events;
 
     public List<Todo> syncTodos(List<TodoSyncRequest> requests) {
         log.info("Starting sync for {} todos", requests.size());
-        
-        // 날짜별로 그룹화
-        Map<String, List<TodoSyncRequest>> requestsByDate = requests.stream()
-                .collect(Collectors.groupingBy(TodoSyncRequest::getDate));
-        
-        List<Todo> results = new ArrayList<>();
-        
-        for (Map.Entry<String, List<TodoSyncRequest>> entry : requestsByDate.entrySet()) {
-            String date = entry.getKey();
-            List<TodoSyncRequest> dateRequests = entry.getValue();
-            
-            // 해당 날짜의 기존 Todo들을 한 번에 조회
-            List<Todo> existingTodos = getTodosUseCase.findByDate(date);
-            Map<String, Todo> existingByText = existingTodos.stream()
-                    .collect(Collectors.toMap(Todo::getText, todo -> todo));
-            
-            // 각 요청 처리
-            for (TodoSyncRequest request : dateRequests) {
-                try {
-                    Todo result = processSyncRequest(request, existingByText.get(request.getText()));
-                    results.add(result);
-                } catch (Exception e) {
-                    log.error("Failed to sync todo: {} / {}", request.getDate(), request.getText(), e);
-                }
+
+        // 한 문장 안에서 같은 행을 두 번 갱신할 수 없으므로 (date, text)가 같으면 마지막 요청 기준
+        // 날짜/내용이 잘못되었거나 내용이 너무 긴 항목은 하나씩 건너뛴다 (나머지 동기화까지 롤백하지 않도록 upsert 전에 거른다)
+        Map<Key, Todo> byKey = new LinkedHashMap<>();
+        int skipped = 0;
+        for (TodoSyncRequest request : requests) {
+            Optional<LocalDate> date = parseDate(request.getDate());
+            String text = request.getText() != null ? request.getText().trim() : "";
+            if (date.isEmpty() || text.isEmpty() || text.length() > MAX_TEXT_LENGTH) {
+                log.warn("Skipping invalid sync item: date={}, text={}", request.getDate(), request.getText());
+                skipped++;
+                continue;
             }
+            byKey.put(new Key(date.get(), text), new Todo(null, text, request.isDone(), date.get()));
+        }
+        if (skipped > 0) {
+            log.warn("Skipped {} of {} sync items", skipped, requests.size());
         }
-        
+        if (byKey.isEmpty()) return List.of();
+
+        List<Todo> results = repo.upsertAll(List.copyOf(byKey.values()));
+
+        // 바뀌지 않은 날짜도 포함되지만 날짜별 요약은 내용 해시가 같으면 다시 만들지 않는다
+        Set<String> dates = byKey.keySet().stream()
+                .map(k -> k.date().toString())
+                .collect(Collectors.toSet());
+        events.publishEvent(new TodoChangedEvent(dates));
+
         log.info("Successfully synced {} todos", results.size());
         return results;
     }
-    
-    private Todo processSyncRequest(TodoSyncRequest request, Todo existingTodo) {
-        if (existingTodo == null) {
-            // 새로 생성
-            Todo created = createUseCase.create(request.getText(), request.getDate());
-            if (request.isDone()) {
-                return updateUseCase.update(created.getId(), created.getText(), true);
-            }
-            return created;
-        } else {
-            // 상태 업데이트 필요한지 확인
-            if (existingTodo.isDone() != request.isDone()) {
-                return updateUseCase.update(existingTodo.getId(), existingTodo.getText(), request.isDone());
-            }
-            return existingTodo;
+
+    private static Optional<LocalDate> parseDate(String date) {
+        if (date == null) return Optional.empty();
+        try {
+            return Optional.of(LocalDate.parse(date.trim()));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
         }
     }
+
+    private record Key(LocalDate date, String text) {
+    }
 }
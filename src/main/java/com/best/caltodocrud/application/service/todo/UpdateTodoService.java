@@ -3,7 +3,10 @@ package com.best.caltodocrud.application.service.todo;
 import com.best.caltodocrud.application.port.in.todo.UpdateTodoUseCase;
 import com.best.caltodocrud.application.port.out.TodoRepositoryPort;
 import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
+import com.best.caltodocrud.domain.exception.TodoNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -13,6 +16,7 @@ import org.springframework.util.Assert;
 public class UpdateTodoService implements UpdateTodoUseCase {
 
     private final TodoRepositoryPort repo;
+    private final ApplicationEventPublisher events;
 
     @Transactional
     @Override
@@ -21,10 +25,10 @@ public class UpdateTodoService implements UpdateTodoUseCase {
         Assert.hasText(text, "text must not be empty");
         Assert.notNull(done, "done must not be null");
 
-        var cur = repo.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Todo not found: id=" + id));
-
-        var updated = new Todo(cur.getId(), text.trim(), done, cur.getDate());
-        return repo.save(updated);
+        // 두 필드를 모두 바꾸는 PATCH와 같음 (조회 + 병합 없이 UPDATE 한 번)
+        var saved = repo.patch(id, text.trim(), done)
+                .orElseThrow(() -> new TodoNotFoundException(id));
+        events.publishEvent(TodoChangedEvent.of(saved.getDate()));
+        return saved;
     }
 }
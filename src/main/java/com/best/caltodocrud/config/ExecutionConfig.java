@@ -0,0 +1,54 @@
+package com.best.caltodocrud.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 블로킹 AI 호출 실행 모드
+ * - spring.threads.virtual.enabled=true + Java 21 이상: 요청 처리(Tomcat)와 블로킹 ChatClient 호출이 가상 스레드에서 실행
+ * - 그 외: 기존처럼 플랫폼 스레드 (Tomcat 풀 + Reactor boundedElastic)
+ * 배치 요약의 바깥 단계는 별도 스케줄러에서 돌린다 - 안쪽 계층 요약이 aiBlockingScheduler에서 끝나길 기다리며 블로킹하므로
+ * 같은 풀을 쓰면 바깥 작업이 워커를 모두 차지해 안쪽 작업이 큐에서 영원히 기다릴 수 있다
+ */
+@Slf4j
+@Configuration
+public class ExecutionConfig {
+
+    @Bean(destroyMethod = "dispose")
+    @Primary
+    public Scheduler aiBlockingScheduler(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ai-vt-");
+            executor.setVirtualThreads(true);
+            log.info("Execution mode: virtual threads (Java {})", Runtime.version().feature());
+            return Schedulers.fromExecutor(executor);
+        }
+
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("spring.threads.virtual.enabled=true requires Java 21+ (running {}), using platform threads",
+                    Runtime.version().feature());
+        } else {
+            log.info("Execution mode: platform threads");
+        }
+        return Schedulers.newBoundedElastic(
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "ai-blocking");
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler summaryBatchScheduler(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("summary-batch-vt-");
+            executor.setVirtualThreads(true);
+            return Schedulers.fromExecutor(executor);
+        }
+        return Schedulers.newBoundedElastic(
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "summary-batch");
+    }
+}
@@ -73,6 +73,8 @@ public class ChatConversation {
         private Long totalDurationMs;
         private List<String> topicsDiscussed;
         private String primaryIntent;
+        private String runningSummary;      // 오래된 턴을 압축한 누적 요약
+        private Integer summarizedMessages; // runningSummary에 반영된 메시지 수 (앞에서부터)
     }
     
     // 비즈니스 메서드
@@ -0,0 +1,19 @@
+package com.best.caltodocrud.domain;
+
+import java.util.List;
+
+/**
+ * 프롬프트에 넣을 대화 기억
+ * - summary: 오래된 턴을 압축한 누적 요약 (없으면 null)
+ * - recentMessages: 아직 요약되지 않은 최근 메시지 (시간순)
+ */
+public record ChatMemory(String summary, List<ChatConversation.ChatMessage> recentMessages) {
+
+    public static ChatMemory empty() {
+        return new ChatMemory(null, List.of());
+    }
+
+    public boolean hasSummary() {
+        return summary != null && !summary.isBlank();
+    }
+}
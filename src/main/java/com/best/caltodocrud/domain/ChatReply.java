@@ -0,0 +1,25 @@
+package com.best.caltodocrud.domain;
+
+/**
+ * 챗봇 응답 (스트림에서는 응답 조각)과 그 호출의 토큰 사용량
+ * - 사용량은 API 응답의 usage 메타데이터, 없으면 조립된 프롬프트 + 응답 본문을 센 추정치
+ * - 스트림에서는 마지막 조각(본문 "")에만 사용량이 실리고, 나머지 조각은 0
+ */
+public record ChatReply(String content, int promptTokens, int completionTokens) {
+
+    public static ChatReply text(String content) {
+        return new ChatReply(content, 0, 0);
+    }
+
+    public static ChatReply usage(int promptTokens, int completionTokens) {
+        return new ChatReply("", promptTokens, completionTokens);
+    }
+
+    public boolean hasUsage() {
+        return promptTokens > 0 || completionTokens > 0;
+    }
+
+    public int totalTokens() {
+        return promptTokens + completionTokens;
+    }
+}
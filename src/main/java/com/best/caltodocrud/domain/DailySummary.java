@@ -0,0 +1,21 @@
+package com.best.caltodocrud.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 하루치 요약 + 요약 당시 할 일 내용 해시
+ * 현재 할 일의 해시와 같을 때만 유효
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DailySummary {
+    private final String date;        // yyyy-MM-dd
+    private final String contentHash;
+    private final SummaryResult summary;
+    private final LocalDateTime updatedAt;
+}
@@ -2,7 +2,7 @@ package com.best.caltodocrud.domain;
 
 import lombok.*;
 
-@Getter @Builder
+@Getter @Builder(toBuilder = true)
 @AllArgsConstructor @NoArgsConstructor
 public class SummaryResult {
     private String title;     // 카드 타이틀
@@ -10,4 +10,5 @@ public class SummaryResult {
     private String bullets;   // 불릿(줄바꿈 \n)
     private String riskNote;  // 주의/리스크
     private String freeText;  // 🆕 서술형 요약(그대로 보여줄 텍스트)
+    private boolean fallback; // LLM 실패로 만든 최소 요약 (캐시하지 않음)
 }
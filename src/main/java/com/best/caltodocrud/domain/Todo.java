@@ -1,14 +1,15 @@
 package com.best.caltodocrud.domain;
 
+import java.time.LocalDate;
 import java.util.Objects;
 
 public class Todo {
     private final Long id;   // DB PK를 Long 타입으로 통일
     private final String text;
     private final boolean done;
-    private final String date; // yyyy-MM-dd
+    private final LocalDate date;
 
-    public Todo(Long id, String text, boolean done, String date) {
+    public Todo(Long id, String text, boolean done, LocalDate date) {
         this.id = id;
         this.text = Objects.requireNonNull(text);
         this.done = done;
@@ -17,5 +18,5 @@ public class Todo {
     public Long getId() { return id; }
     public String getText() { return text; }
     public boolean isDone() { return done; }
-    public String getDate() { return date; }
+    public LocalDate getDate() { return date; }
 }
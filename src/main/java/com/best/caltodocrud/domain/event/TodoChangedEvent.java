@@ -0,0 +1,23 @@
+package com.best.caltodocrud.domain.event;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 할 일이 생성/수정/삭제되었음을 알리는 이벤트
+ * 캐시 등은 dates(yyyy-MM-dd)에 해당하는 항목만 무효화한다
+ */
+public record TodoChangedEvent(Set<String> dates) {
+
+    public TodoChangedEvent {
+        dates = Set.copyOf(dates);
+    }
+
+    public static TodoChangedEvent of(String date) {
+        return new TodoChangedEvent(Set.of(date));
+    }
+
+    public static TodoChangedEvent of(LocalDate date) {
+        return of(date.toString());
+    }
+}
@@ -0,0 +1,11 @@
+package com.best.caltodocrud.domain.exception;
+
+/**
+ * API 키 인증/권한 실패(401/403) - 설정 문제
+ */
+public class AiAuthenticationException extends AiServiceException {
+
+    public AiAuthenticationException(Throwable cause) {
+        super("OpenAI API 인증 실패", cause);
+    }
+}
@@ -0,0 +1,24 @@
+package com.best.caltodocrud.domain.exception;
+
+/**
+ * 외부 AI 호출이 동시성/요청 한도 때문에 거절됨
+ */
+public class AiCallRejectedException extends AiServiceException {
+
+    public enum Reason {
+        QUEUE_FULL,      // 대기열이 가득 참
+        QUEUE_TIMEOUT,   // 대기 중 마감 시간 초과
+        RATE_LIMIT       // 분당 요청/토큰 한도 안에서 마감 전에 처리할 수 없음
+    }
+
+    private final Reason reason;
+
+    public AiCallRejectedException(String pool, Reason reason) {
+        super("AI 요청 한도 초과 - pool=" + pool + ", reason=" + reason);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
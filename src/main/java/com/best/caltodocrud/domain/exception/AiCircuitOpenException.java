@@ -0,0 +1,11 @@
+package com.best.caltodocrud.domain.exception;
+
+/**
+ * 최근 OpenAI 호출이 연달아 실패해 회로가 열려 있음 - 호출하지 않고 즉시 거절
+ */
+public class AiCircuitOpenException extends AiServiceException {
+
+    public AiCircuitOpenException() {
+        super("AI 서비스 일시 중단 (회로 차단)");
+    }
+}
@@ -0,0 +1,11 @@
+package com.best.caltodocrud.domain.exception;
+
+/**
+ * OpenAI 계정 할당량(크레딧) 소진 - 기다려도 풀리지 않음
+ */
+public class AiQuotaExceededException extends AiServiceException {
+
+    public AiQuotaExceededException(Throwable cause) {
+        super("OpenAI 할당량이 초과되었습니다", cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.best.caltodocrud.domain.exception;
+
+/**
+ * OpenAI가 요청/토큰 한도 초과(429)로 거절함
+ */
+public class AiRateLimitedException extends AiServiceException {
+
+    public AiRateLimitedException(Throwable cause) {
+        super("OpenAI API 요청 한도 초과", cause);
+    }
+}
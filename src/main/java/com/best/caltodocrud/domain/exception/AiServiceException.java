@@ -0,0 +1,15 @@
+package com.best.caltodocrud.domain.exception;
+
+/**
+ * 외부 AI 호출 실패 공통 타입 - 원인별 하위 타입으로 사용자 메시지/HTTP 상태를 고른다
+ */
+public class AiServiceException extends RuntimeException {
+
+    public AiServiceException(String message) {
+        super(message);
+    }
+
+    public AiServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.best.caltodocrud.domain.exception;
+
+/**
+ * OpenAI 응답 시간 초과 (연결/읽기)
+ */
+public class AiTimeoutException extends AiServiceException {
+
+    public AiTimeoutException(Throwable cause) {
+        super("OpenAI API 응답 시간 초과", cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.best.caltodocrud.domain.exception;
+
+/**
+ * 요약 결과를 제한 시간 안에 받지 못함 (진행 중인 동일 요약 대기 시간 초과 등)
+ */
+public class SummaryUnavailableException extends RuntimeException {
+
+    public SummaryUnavailableException(String message) {
+        super(message);
+    }
+
+    public SummaryUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,121 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import com.best.caltodocrud.domain.exception.AiCallRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD 동시성 한도 + 제한된 대기열
+ * - 지연이 목표 이하인 성공: limit += 1/limit (한도만큼 성공하면 +1)
+ * - 목표보다 느린 응답: limit *= 0.9
+ * - 429 응답: limit *= 0.5
+ * 가상 스레드에서 pinning이 생기지 않도록 synchronized 대신 ReentrantLock 사용
+ */
+class AdaptiveConcurrencyLimit {
+
+    enum Outcome { SUCCESS, RATE_LIMITED, FAILURE, CANCELLED }
+
+    private final String name;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition slotFreed = lock.newCondition();
+    private final double minLimit;
+    private final double maxLimit;
+    private final int maxQueue;
+    private final long latencyTargetNanos;
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit,
+                             int maxQueue, Duration latencyTarget) {
+        this.name = name;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+    }
+
+    /**
+     * 슬롯을 얻을 때까지 deadline까지 기다린다
+     */
+    void acquire(long deadlineNanos) {
+        lock.lock();
+        try {
+            if (waiting == 0 && inFlight < (int) limit) {
+                inFlight++;
+                return;
+            }
+            if (waiting >= maxQueue) {
+                throw new AiCallRejectedException(name, AiCallRejectedException.Reason.QUEUE_FULL);
+            }
+
+            waiting++;
+            try {
+                while (inFlight >= (int) limit) {
+                    long remaining = deadlineNanos - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new AiCallRejectedException(name, AiCallRejectedException.Reason.QUEUE_TIMEOUT);
+                    }
+                    slotFreed.awaitNanos(remaining);
+                }
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AiCallRejectedException(name, AiCallRejectedException.Reason.QUEUE_TIMEOUT);
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(Outcome outcome, long latencyNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            switch (outcome) {
+                case RATE_LIMITED -> limit = Math.max(minLimit, limit * 0.5);
+                case SUCCESS -> limit = latencyNanos <= latencyTargetNanos
+                        ? Math.min(maxLimit, limit + 1.0 / limit)
+                        : Math.max(minLimit, limit * 0.9);
+                default -> { /* 일반 실패/취소는 한도에 반영하지 않음 */ }
+            }
+            // 한도가 줄었으면 슬롯이 남지 않으므로 깨워도 다시 잠든다
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
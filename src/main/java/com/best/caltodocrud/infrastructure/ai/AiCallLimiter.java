@@ -0,0 +1,177 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import com.best.caltodocrud.domain.exception.AiCallRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 벌크헤드
+ * - 계정 단위 분당 요청 수(RPM) / 토큰 수(TPM) 토큰 버킷 (풀 공통)
+ * - 풀(CHAT, SUMMARY)별 AIMD 동시성 한도와 마감 시간이 있는 제한된 대기열
+ * 한도를 넘는 호출은 OpenAI에 보내지 않고 AiCallRejectedException으로 즉시/마감 시 거절한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.ai", name = "enabled", havingValue = "true")
+public class AiCallLimiter {
+
+    public enum Pool { CHAT, SUMMARY }
+
+    private final TokenBucket requestsPerMinute;
+    private final TokenBucket tokensPerMinute;
+    private final Map<Pool, AdaptiveConcurrencyLimit> limits = new EnumMap<>(Pool.class);
+    private final Map<Pool, Duration> queueTimeouts = new EnumMap<>(Pool.class);
+    private final Map<Pool, Map<AiCallRejectedException.Reason, Counter>> rejections = new EnumMap<>(Pool.class);
+
+    public AiCallLimiter(Environment env, MeterRegistry meterRegistry) {
+        this.requestsPerMinute = new TokenBucket(
+                env.getProperty("app.ai.limiter.requests-per-minute", Long.class, 500L));
+        this.tokensPerMinute = new TokenBucket(
+                env.getProperty("app.ai.limiter.tokens-per-minute", Long.class, 200_000L));
+
+        for (Pool pool : Pool.values()) {
+            String prefix = "app.ai.limiter." + pool.name().toLowerCase() + ".";
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                    pool.name(),
+                    env.getProperty(prefix + "initial-limit", Integer.class, 8),
+                    env.getProperty(prefix + "min-limit", Integer.class, 1),
+                    env.getProperty(prefix + "max-limit", Integer.class, 32),
+                    env.getProperty(prefix + "max-queue", Integer.class, 64),
+                    env.getProperty(prefix + "latency-target", Duration.class, Duration.ofSeconds(10)));
+            limits.put(pool, limit);
+            queueTimeouts.put(pool, env.getProperty(prefix + "queue-timeout", Duration.class, Duration.ofSeconds(10)));
+
+            String tag = pool.name().toLowerCase();
+            Gauge.builder("ai.limiter.queue.depth", limit, AdaptiveConcurrencyLimit::waiting)
+                    .tag("pool", tag).register(meterRegistry);
+            Gauge.builder("ai.limiter.inflight", limit, AdaptiveConcurrencyLimit::inFlight)
+                    .tag("pool", tag).register(meterRegistry);
+            Gauge.builder("ai.limiter.limit", limit, AdaptiveConcurrencyLimit::limit)
+                    .tag("pool", tag).register(meterRegistry);
+
+            Map<AiCallRejectedException.Reason, Counter> counters = new EnumMap<>(AiCallRejectedException.Reason.class);
+            for (AiCallRejectedException.Reason reason : AiCallRejectedException.Reason.values()) {
+                counters.put(reason, Counter.builder("ai.limiter.rejected")
+                        .tag("pool", tag)
+                        .tag("reason", reason.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+            rejections.put(pool, counters);
+        }
+    }
+
+    /**
+     * 한도 안에서 블로킹 호출을 실행한다
+     *
+     * @param estimatedTokens 프롬프트 + 예상 응답 토큰 (TPM 버킷 차감용)
+     */
+    public <T> T call(Pool pool, int estimatedTokens, Supplier<T> call) {
+        Permit permit = acquire(pool, estimatedTokens);
+        try {
+            T result = call.get();
+            permit.success();
+            return result;
+        } catch (RuntimeException e) {
+            permit.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 슬롯과 RPM/TPM 예약을 얻는다 (스트리밍처럼 호출 범위가 메서드 밖으로 이어질 때)
+     * 반환된 Permit은 반드시 success/failure/cancel 중 하나로 한 번 반납해야 한다
+     */
+    public Permit acquire(Pool pool, int estimatedTokens) {
+        AdaptiveConcurrencyLimit limit = limits.get(pool);
+        long deadline = System.nanoTime() + queueTimeouts.get(pool).toNanos();
+
+        try {
+            limit.acquire(deadline);
+        } catch (AiCallRejectedException e) {
+            throw rejected(pool, e);
+        }
+
+        long requestWait = requestsPerMinute.reserve(1, deadline);
+        long tokenWait = requestWait < 0 ? -1 : tokensPerMinute.reserve(estimatedTokens, deadline);
+        if (requestWait < 0 || tokenWait < 0) {
+            if (requestWait >= 0) requestsPerMinute.refund(1);
+            limit.release(AdaptiveConcurrencyLimit.Outcome.CANCELLED, 0L);
+            throw rejected(pool, new AiCallRejectedException(pool.name(), AiCallRejectedException.Reason.RATE_LIMIT));
+        }
+
+        long wait = Math.max(requestWait, tokenWait);
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                limit.release(AdaptiveConcurrencyLimit.Outcome.CANCELLED, 0L);
+                throw rejected(pool, new AiCallRejectedException(pool.name(), AiCallRejectedException.Reason.QUEUE_TIMEOUT));
+            }
+        }
+        return new Permit(limit);
+    }
+
+    private AiCallRejectedException rejected(Pool pool, AiCallRejectedException e) {
+        rejections.get(pool).get(e.getReason()).increment();
+        log.warn("AI call rejected: pool={}, reason={}", pool, e.getReason());
+        return e;
+    }
+
+    /** OpenAI 429(요청/토큰 한도) 응답인지 */
+    static boolean isRateLimited(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            String message = t.getMessage();
+            if (message != null && (message.contains("429") || message.contains("rate_limit_exceeded"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 획득한 슬롯. 결과(성공/429/실패)와 지연을 AIMD 한도에 반영하며 한 번만 반납된다
+     */
+    public static final class Permit {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(AdaptiveConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+
+        public void success() {
+            release(AdaptiveConcurrencyLimit.Outcome.SUCCESS);
+        }
+
+        public void failure(Throwable error) {
+            release(isRateLimited(error)
+                    ? AdaptiveConcurrencyLimit.Outcome.RATE_LIMITED
+                    : AdaptiveConcurrencyLimit.Outcome.FAILURE);
+        }
+
+        public void cancel() {
+            release(AdaptiveConcurrencyLimit.Outcome.CANCELLED);
+        }
+
+        private void release(AdaptiveConcurrencyLimit.Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                limit.release(outcome, System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import com.best.caltodocrud.domain.exception.AiCallRejectedException;
+import com.best.caltodocrud.domain.exception.AiCircuitOpenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 회로 차단기 (채팅/요약 공통 - 같은 API 계정이라 장애도 함께 온다)
+ * - CLOSED: 최근 window-size건 중 minimum-calls건 이상에서 실패율(느린 호출 포함)이 임계치를 넘으면 OPEN
+ * - OPEN: open-duration 동안 호출하지 않고 AiCircuitOpenException으로 즉시 거절 (호출 측이 로컬 응답으로 대체)
+ * - HALF_OPEN: half-open-probes건만 실제로 보내 보고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * 리미터 거절(AiCallRejectedException)과 취소는 OpenAI 상태와 무관하므로 집계하지 않는다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.ai", name = "enabled", havingValue = "true")
+public class AiCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean enabled;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probesSucceeded;
+    private long generation; // 상태가 바뀔 때마다 증가 - 이전 탐색 구간의 늦은 결과를 걸러낸다
+
+    private final Counter rejected;
+
+    public AiCircuitBreaker(Environment env, MeterRegistry meterRegistry) {
+        this.enabled = env.getProperty("app.ai.circuit.enabled", Boolean.class, true);
+        this.window = new boolean[Math.max(1, env.getProperty("app.ai.circuit.window-size", Integer.class, 20))];
+        this.minimumCalls = Math.min(window.length, env.getProperty("app.ai.circuit.minimum-calls", Integer.class, 10));
+        this.failureRateThreshold = env.getProperty("app.ai.circuit.failure-rate-threshold", Integer.class, 50);
+        this.slowCallNanos = env.getProperty("app.ai.circuit.slow-call-duration", Duration.class, Duration.ofSeconds(15)).toNanos();
+        this.openNanos = env.getProperty("app.ai.circuit.open-duration", Duration.class, Duration.ofSeconds(30)).toNanos();
+        this.halfOpenProbes = Math.max(1, env.getProperty("app.ai.circuit.half-open-probes", Integer.class, 2));
+
+        Gauge.builder("ai.circuit.state", this, b -> b.state().ordinal())
+                .description("회로 상태 (0=closed, 1=open, 2=half_open)")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("ai.circuit.rejected")
+                .description("회로가 열려 OpenAI에 보내지 않은 호출 수")
+                .register(meterRegistry);
+    }
+
+    /** 회로 안에서 블로킹 호출을 실행한다 */
+    public <T> T call(Supplier<T> call) {
+        Permit permit = acquire();
+        try {
+            T result = call.get();
+            permit.success();
+            return result;
+        } catch (RuntimeException e) {
+            permit.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 호출 허가를 얻는다 (스트리밍처럼 호출 범위가 메서드 밖으로 이어질 때)
+     * 반환된 Permit은 반드시 success/failure/cancel 중 하나로 한 번 반납해야 한다
+     */
+    public Permit acquire() {
+        if (!enabled) return new Permit(false, 0L);
+
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.OPEN || (state == State.HALF_OPEN && probesInFlight + probesSucceeded >= halfOpenProbes)) {
+                rejected.increment();
+                throw new AiCircuitOpenException();
+            }
+            boolean probe = state == State.HALF_OPEN;
+            if (probe) probesInFlight++;
+            return new Permit(probe, generation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean probe, long permitGeneration, boolean failed) {
+        lock.lock();
+        try {
+            if (probe) {
+                // 다른 탐색이 이미 회로를 닫거나 다시 열었으면 결과는 버린다
+                if (permitGeneration != generation) return;
+                probesInFlight--;
+                if (failed) {
+                    transition(State.OPEN);
+                } else if (++probesSucceeded >= halfOpenProbes) {
+                    transition(State.CLOSED);
+                }
+                return;
+            }
+            if (state != State.CLOSED) return;
+
+            if (windowCount == window.length) {
+                if (window[windowNext]) windowFailures--;
+            } else {
+                windowCount++;
+            }
+            window[windowNext] = failed;
+            if (failed) windowFailures++;
+            windowNext = (windowNext + 1) % window.length;
+
+            if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                log.warn("AI circuit opening: {}/{} recent calls failed", windowFailures, windowCount);
+                transition(State.OPEN);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseProbe(long permitGeneration) {
+        lock.lock();
+        try {
+            if (permitGeneration == generation) probesInFlight--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** lock을 잡은 상태에서만 호출 */
+    private void transition(State next) {
+        if (state == next) return;
+        log.warn("AI circuit {} -> {}", state, next);
+        state = next;
+        generation++;
+        probesInFlight = 0;
+        probesSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        } else if (next == State.CLOSED) {
+            windowNext = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    /**
+     * 호출 허가. 결과(성공/느린 호출/실패)를 회로에 반영하며 한 번만 반납된다
+     */
+    public final class Permit {
+
+        private final boolean probe;
+        private final long permitGeneration;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(boolean probe, long permitGeneration) {
+            this.probe = probe;
+            this.permitGeneration = permitGeneration;
+        }
+
+        public void success() {
+            if (released.compareAndSet(false, true) && enabled) {
+                record(probe, permitGeneration, System.nanoTime() - startNanos >= slowCallNanos);
+            }
+        }
+
+        public void failure(Throwable error) {
+            if (!released.compareAndSet(false, true) || !enabled) return;
+            // 우리 쪽 리미터가 거절한 호출은 OpenAI 상태와 무관
+            if (error instanceof AiCallRejectedException) {
+                if (probe) releaseProbe(permitGeneration);
+                return;
+            }
+            record(probe, permitGeneration, true);
+        }
+
+        public void cancel() {
+            if (released.compareAndSet(false, true) && enabled && probe) {
+                releaseProbe(permitGeneration);
+            }
+        }
+    }
+}
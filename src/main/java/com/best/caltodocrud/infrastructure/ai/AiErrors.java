@@ -0,0 +1,50 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import com.best.caltodocrud.domain.exception.AiAuthenticationException;
+import com.best.caltodocrud.domain.exception.AiQuotaExceededException;
+import com.best.caltodocrud.domain.exception.AiRateLimitedException;
+import com.best.caltodocrud.domain.exception.AiServiceException;
+import com.best.caltodocrud.domain.exception.AiTimeoutException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * OpenAI/Spring AI 예외를 타입이 있는 AiServiceException으로 변환
+ * - HTTP 상태는 응답 예외 타입에서, 없으면(Spring AI가 "상태 - 본문" 문자열로 감싼 경우) 원인 체인의 메시지에서 읽는다
+ * - 공급자 오류 형식에 대한 지식은 여기에만 두고, 호출 측은 예외 타입만 본다
+ */
+final class AiErrors {
+
+    private AiErrors() {
+    }
+
+    static AiServiceException translate(Throwable e) {
+        if (e instanceof AiServiceException typed) return typed;
+
+        int status = 0;
+        StringBuilder messages = new StringBuilder();
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SocketTimeoutException || t instanceof HttpTimeoutException || t instanceof TimeoutException) {
+                return new AiTimeoutException(e);
+            }
+            if (status == 0 && t instanceof RestClientResponseException r) status = r.getStatusCode().value();
+            if (status == 0 && t instanceof WebClientResponseException w) status = w.getStatusCode().value();
+            if (t.getMessage() != null) messages.append(t.getMessage()).append('\n');
+            if (t.getCause() == t) break;
+        }
+
+        String text = messages.toString().toLowerCase();
+        // 할당량 소진도 429로 오므로 먼저 확인
+        if (text.contains("insufficient_quota")) return new AiQuotaExceededException(e);
+        if (status == 429 || text.contains("429") || text.contains("rate_limit")) return new AiRateLimitedException(e);
+        if (status == 401 || status == 403 || text.contains("401") || text.contains("invalid_api_key")) {
+            return new AiAuthenticationException(e);
+        }
+        if (text.contains("timeout") || text.contains("timed out")) return new AiTimeoutException(e);
+        return new AiServiceException("OpenAI API 호출 실패: " + e.getMessage(), e);
+    }
+}
@@ -0,0 +1,97 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import com.best.caltodocrud.domain.exception.AiCallRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 지표
+ * - ai.call (timer): operation, outcome(success/error/rejected) - 히스토그램/SLO 버킷은 management.metrics.distribution.* 설정
+ * - ai.tokens (counter): operation, type(prompt/completion) - 추정치가 아닌 응답의 usage 메타데이터 기준
+ * - ai.summary.output (counter): operation, result(valid/repaired/malformed) - 요약 응답 형식
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.ai", name = "enabled", havingValue = "true")
+public class AiMetrics {
+
+    private final MeterRegistry registry;
+
+    public AiMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /** 블로킹 호출을 재고, 결과에 usage가 있으면 토큰도 기록 */
+    public ChatResponse time(String operation, Supplier<ChatResponse> call) {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            ChatResponse response = call.get();
+            stop(sample, operation, null);
+            recordUsage(operation, response);
+            return response;
+        } catch (RuntimeException e) {
+            stop(sample, operation, e);
+            throw e;
+        }
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /** error가 null이면 성공 */
+    public void stop(Timer.Sample sample, String operation, Throwable error) {
+        sample.stop(Timer.builder("ai.call")
+                .description("OpenAI 호출 지연 (리미터 대기 포함)")
+                .tag("operation", operation)
+                .tag("outcome", outcome(error))
+                .register(registry));
+    }
+
+    public void recordUsage(String operation, ChatResponse response) {
+        if (response == null || response.getMetadata() == null) return;
+        Usage usage = response.getMetadata().getUsage();
+        if (usage == null) return;
+
+        increment(operation, "prompt", usage.getPromptTokens());
+        increment(operation, "completion", usage.getGenerationTokens());
+    }
+
+    public void recordOutput(String operation, String result) {
+        Counter.builder("ai.summary.output")
+                .description("요약 응답 JSON 파싱 결과")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    private void increment(String operation, String type, Long tokens) {
+        if (tokens == null || tokens <= 0) return;
+        Counter.builder("ai.tokens")
+                .description("OpenAI 응답 usage 기준 사용 토큰")
+                .baseUnit("tokens")
+                .tag("operation", operation)
+                .tag("type", type)
+                .register(registry)
+                .increment(tokens);
+    }
+
+    private static String outcome(Throwable error) {
+        if (error == null) return "success";
+        return error instanceof AiCallRejectedException ? "rejected" : "error";
+    }
+
+    /** 응답 본문 (스트림 조각에는 결과가 없을 수 있음) */
+    static String content(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) return "";
+        String content = response.getResult().getOutput().getContent();
+        return content != null ? content : "";
+    }
+}
@@ -0,0 +1,167 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 모델 출력에서 최상위 JSON 객체의 필드를 뽑아내는 관대한 증분 파서
+ * - 첫 '{' 이전의 코드 펜스(```json)/설명 문장은 건너뛴다
+ * - append로 스트리밍 조각을 이어 받을 수 있고, 언제든 지금까지 완성된 필드를 꺼낼 수 있다
+ * - 잘린 출력이면 마지막 문자열 값도 진행 중인 부분까지 꺼낼 수 있다
+ * - 문자열 값 안의 이스케이프되지 않은 줄바꿈 등은 그대로 받아들인다
+ * - 중첩 객체/배열 값은 원문 그대로 보관한다
+ */
+final class IncrementalJsonFieldParser {
+
+    private enum State { SEEK_OBJECT, EXPECT_KEY, IN_KEY, EXPECT_COLON, EXPECT_VALUE, IN_STRING, IN_RAW, AFTER_VALUE, DONE }
+
+    private final Map<String, String> fields = new LinkedHashMap<>();
+    private final StringBuilder key = new StringBuilder();
+    private final StringBuilder value = new StringBuilder();
+
+    private State state = State.SEEK_OBJECT;
+    private boolean escaped;
+    private int unicodeDigits = -1;  // \\uXXXX 처리 중이면 읽은 자릿수
+    private int unicodeValue;
+    private int rawDepth;            // 중첩 값의 괄호 깊이
+    private boolean rawInString;     // 중첩 값 안의 문자열 여부
+    private boolean rawEscaped;
+
+    IncrementalJsonFieldParser append(CharSequence chunk) {
+        for (int i = 0; i < chunk.length() && state != State.DONE; i++) {
+            accept(chunk.charAt(i));
+        }
+        return this;
+    }
+
+    /** 최상위 객체의 닫는 괄호까지 읽었는지 */
+    boolean complete() {
+        return state == State.DONE;
+    }
+
+    /** 완성된 필드 (includePartial이면 진행 중인 문자열 값도 포함) */
+    Map<String, String> fields(boolean includePartial) {
+        if (!includePartial || state != State.IN_STRING || value.isEmpty()) {
+            return Map.copyOf(fields);
+        }
+        Map<String, String> snapshot = new LinkedHashMap<>(fields);
+        snapshot.putIfAbsent(key.toString(), value.toString());
+        return snapshot;
+    }
+
+    private void accept(char c) {
+        switch (state) {
+            case SEEK_OBJECT -> {
+                if (c == '{') state = State.EXPECT_KEY;
+            }
+            case EXPECT_KEY -> {
+                if (c == '"') {
+                    key.setLength(0);
+                    state = State.IN_KEY;
+                } else if (c == '}') {
+                    state = State.DONE;
+                }
+                // 공백, 쉼표, 그 밖의 잡음은 무시
+            }
+            case IN_KEY -> {
+                if (readString(c, key)) state = State.EXPECT_COLON;
+            }
+            case EXPECT_COLON -> {
+                if (c == ':') state = State.EXPECT_VALUE;
+            }
+            case EXPECT_VALUE -> {
+                if (Character.isWhitespace(c)) return;
+                value.setLength(0);
+                if (c == '"') {
+                    state = State.IN_STRING;
+                } else {
+                    rawDepth = 0;
+                    rawInString = false;
+                    rawEscaped = false;
+                    state = State.IN_RAW;
+                    accept(c);
+                }
+            }
+            case IN_STRING -> {
+                if (readString(c, value)) {
+                    fields.put(key.toString(), value.toString());
+                    state = State.AFTER_VALUE;
+                }
+            }
+            case IN_RAW -> readRaw(c);
+            case AFTER_VALUE -> {
+                if (c == ',') state = State.EXPECT_KEY;
+                else if (c == '}') state = State.DONE;
+            }
+            case DONE -> { }
+        }
+    }
+
+    /** 문자열 본문 한 글자 처리, 닫는 따옴표면 true */
+    private boolean readString(char c, StringBuilder out) {
+        if (unicodeDigits >= 0) {
+            int digit = Character.digit(c, 16);
+            if (digit < 0) {
+                // 잘못된 \\u 이스케이프는 읽은 그대로 남긴다
+                out.append("\\u").append(hex(unicodeValue, unicodeDigits));
+                unicodeDigits = -1;
+                return readString(c, out);
+            }
+            unicodeValue = unicodeValue * 16 + digit;
+            if (++unicodeDigits == 4) {
+                out.append((char) unicodeValue);
+                unicodeDigits = -1;
+            }
+            return false;
+        }
+        if (escaped) {
+            escaped = false;
+            switch (c) {
+                case 'n' -> out.append('\n');
+                case 't' -> out.append('\t');
+                case 'r' -> out.append('\r');
+                case 'b' -> out.append('\b');
+                case 'f' -> out.append('\f');
+                case 'u' -> {
+                    unicodeDigits = 0;
+                    unicodeValue = 0;
+                }
+                default -> out.append(c); // \" \\ \/ 및 알 수 없는 이스케이프
+            }
+            return false;
+        }
+        if (c == '\\') {
+            escaped = true;
+            return false;
+        }
+        if (c == '"') return true;
+        out.append(c);
+        return false;
+    }
+
+    /** 숫자/불리언/null/중첩 값: 최상위 쉼표나 닫는 괄호까지 원문 보관 */
+    private void readRaw(char c) {
+        if (rawInString) {
+            if (rawEscaped) rawEscaped = false;
+            else if (c == '\\') rawEscaped = true;
+            else if (c == '"') rawInString = false;
+            value.append(c);
+            return;
+        }
+        if (rawDepth == 0 && (c == ',' || c == '}')) {
+            fields.put(key.toString(), value.toString().trim());
+            state = c == ',' ? State.EXPECT_KEY : State.DONE;
+            return;
+        }
+        if (c == '"') rawInString = true;
+        else if (c == '{' || c == '[') rawDepth++;
+        else if (c == '}' || c == ']') rawDepth--;
+        value.append(c);
+    }
+
+    private static String hex(int value, int digits) {
+        if (digits == 0) return "";
+        String s = Integer.toHexString(value);
+        return "0".repeat(Math.max(0, digits - s.length())) + s;
+    }
+}
@@ -0,0 +1,32 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import com.best.caltodocrud.application.port.out.TokenCounterPort;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * gpt-4o / gpt-4o-mini 인코딩(o200k_base) BPE 토큰 카운터
+ * 랭크 테이블은 jtokkit jar 리소스에 포함되어 있어 네트워크가 필요 없다
+ * countTokens는 토큰 배열을 만들지 않고 개수만 센다
+ */
+@Slf4j
+@Component
+public class JTokkitTokenCounter implements TokenCounterPort {
+
+    private final Encoding encoding;
+
+    public JTokkitTokenCounter() {
+        // 시작 시 한 번 로드해서 첫 요청이 느려지지 않게 한다
+        this.encoding = Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.O200K_BASE);
+        log.info("Loaded tokenizer encoding: {}", encoding.getName());
+    }
+
+    @Override
+    public int count(String text) {
+        if (text == null || text.isEmpty()) return 0;
+        return encoding.countTokens(text);
+    }
+}
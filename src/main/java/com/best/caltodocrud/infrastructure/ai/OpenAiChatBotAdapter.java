@@ -1,8 +1,12 @@
 package com.best.caltodocrud.infrastructure.ai;
 
-import com.best.caltodocrud.api.chat.dto.ChatMessageDto;
 import com.best.caltodocrud.application.port.out.ChatServicePort;
+import com.best.caltodocrud.application.port.out.TokenCounterPort;
+import com.best.caltodocrud.domain.ChatConversation;
+import com.best.caltodocrud.domain.ChatMemory;
+import com.best.caltodocrud.domain.ChatReply;
 import com.best.caltodocrud.domain.Todo;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
@@ -10,14 +14,22 @@ import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Component
@@ -26,100 +38,279 @@ import java.util.List;
 @ConditionalOnProperty(prefix = "app.ai", name = "enabled", havingValue = "true")
 public class OpenAiChatBotAdapter implements ChatServicePort {
 
+    /** chat 포맷에서 메시지마다 붙는 역할/구분자 토큰 */
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
+    private static final String MEMORY_SUMMARY_PROMPT =
+            "다음은 사용자와 할 일 관리 어시스턴트의 대화입니다.\n" +
+            "이후 대화에 필요한 내용(언급된 할 일과 날짜, 사용자의 선호, 아직 답하지 않은 질문)만 남겨 " +
+            "한국어 5줄 이내로 요약하세요.\n" +
+            "이전 요약이 있으면 새 대화와 합쳐 하나의 요약으로 갱신하고, 요약문만 출력하세요.";
+
     private final ChatClient chat;
+    private final TokenCounterPort tokenCounter;
+    private final AiCallLimiter limiter;
+    private final AiCircuitBreaker circuitBreaker;
+    private final AiMetrics metrics;
+
+    @Value("${app.ai.chat.prompt-token-budget:3000}")
+    private int promptTokenBudget;
+
+    @Value("${app.ai.limiter.completion-token-allowance:400}")
+    private int completionTokenAllowance;
 
     @Override
-    public String chat(String message, List<ChatMessageDto> history, List<Todo> contextTodos) {
+    public ChatReply chat(String message, ChatMemory memory, List<Todo> contextTodos) {
         try {
             log.info("Starting OpenAI chat request for message: {}", message);
-            List<Message> messages = buildMessages(message, history, contextTodos);
+            AssembledPrompt prompt = buildMessages(message, memory, contextTodos);
 
-            // 타임아웃을 빠르게 설정하여 블로킹 방지
-            String response = chat
-                    .prompt()
-                    .messages(messages)
-                    .call()
-                    .content();
+            // 회로가 열려 있으면 즉시 거절, 닫혀 있으면 동시성/분당 한도 안에서만 호출
+            ChatResponse response = circuitBreaker.call(() -> metrics.time("chat",
+                    () -> limiter.call(AiCallLimiter.Pool.CHAT, prompt.tokens() + completionTokenAllowance,
+                            () -> chat
+                                    .prompt()
+                                    .messages(prompt.messages())
+                                    .call()
+                                    .chatResponse())));
 
+            String content = AiMetrics.content(response);
+            ChatReply usage = usageOf(response, prompt, content);
             log.info("AI chat response generated successfully");
-            return response;
+            return new ChatReply(content, usage.promptTokens(), usage.completionTokens());
 
         } catch (Exception e) {
             log.error("OpenAI chat failed: {}", e.getMessage());
             log.debug("OpenAI chat error details", e);
 
-            // 구체적인 오류 정보를 포함한 예외를 다시 던짐
-            if (e.getMessage() != null && e.getMessage().contains("insufficient_quota")) {
-                throw new RuntimeException("OpenAI 할당량이 초과되었습니다", e);
-            } else if (e.getMessage() != null && e.getMessage().contains("429")) {
-                throw new RuntimeException("OpenAI API 요청 한도 초과", e);
-            } else if (e.getMessage() != null && e.getMessage().contains("timeout")) {
-                throw new RuntimeException("OpenAI API 응답 시간 초과", e);
-            } else {
-                throw new RuntimeException("OpenAI API 호출 실패: " + e.getMessage(), e);
-            }
+            // 원인별 타입 예외로 다시 던짐
+            throw AiErrors.translate(e);
         }
     }
 
-    private List<Message> buildMessages(String currentMessage, List<ChatMessageDto> history, List<Todo> contextTodos) {
-        List<Message> messages = new ArrayList<>();
-        
+    @Override
+    public Flux<ChatReply> chatStream(String message, ChatMemory memory, List<Todo> contextTodos) {
+        return Flux.defer(() -> {
+                    log.info("Starting OpenAI chat stream for message: {}", message);
+                    AssembledPrompt prompt = buildMessages(message, memory, contextTodos);
+
+                    // 회로 허가와 슬롯은 스트림이 끝나거나(성공/실패) 구독이 취소될 때 반납
+                    AiCircuitBreaker.Permit circuit = circuitBreaker.acquire();
+                    Timer.Sample sample = metrics.start();
+                    AiCallLimiter.Permit permit;
+                    try {
+                        permit = limiter.acquire(AiCallLimiter.Pool.CHAT, prompt.tokens() + completionTokenAllowance);
+                    } catch (RuntimeException e) {
+                        circuit.failure(e);
+                        metrics.stop(sample, "chat.stream", e);
+                        throw e;
+                    }
+
+                    // usage는 stream-usage 설정 시 마지막 청크에만 실려 온다
+                    AtomicReference<ChatResponse> last = new AtomicReference<>();
+                    StringBuilder content = new StringBuilder();
+                    return chat
+                            .prompt()
+                            .messages(prompt.messages())
+                            .stream()
+                            .chatResponse()
+                            .doOnNext(last::set)
+                            .map(AiMetrics::content)
+                            .doOnNext(content::append)
+                            .doOnComplete(() -> {
+                                permit.success();
+                                circuit.success();
+                                metrics.stop(sample, "chat.stream", null);
+                                metrics.recordUsage("chat.stream", last.get());
+                            })
+                            .doOnError(e -> {
+                                permit.failure(e);
+                                circuit.failure(e);
+                                metrics.stop(sample, "chat.stream", e);
+                            })
+                            .doOnCancel(() -> {
+                                permit.cancel();
+                                circuit.cancel();
+                            })
+                            .map(ChatReply::text)
+                            .concatWith(Mono.fromSupplier(() -> usageOf(last.get(), prompt, content.toString())));
+                })
+                .onErrorMap(e -> {
+                    log.error("OpenAI chat stream failed: {}", e.getMessage());
+                    log.debug("OpenAI chat stream error details", e);
+                    return AiErrors.translate(e);
+                });
+    }
+
+    @Override
+    public String summarizeConversation(String previousSummary, List<ChatConversation.ChatMessage> messages) {
+        StringBuilder user = new StringBuilder();
+        if (previousSummary != null && !previousSummary.isBlank()) {
+            user.append("이전 요약:\n").append(previousSummary).append("\n\n");
+        }
+        user.append("새 대화:\n");
+        for (ChatConversation.ChatMessage m : messages) {
+            user.append("assistant".equals(m.getRole()) ? "어시스턴트: " : "사용자: ")
+                    .append(m.getContent()).append('\n');
+        }
+
+        try {
+            // 응답 대기 중인 사용자가 없으므로 요약 풀에서 호출
+            int tokens = countMessage(MEMORY_SUMMARY_PROMPT) + countMessage(user.toString()) + completionTokenAllowance;
+            return AiMetrics.content(circuitBreaker.call(() -> metrics.time("conversation.summary",
+                    () -> limiter.call(AiCallLimiter.Pool.SUMMARY, tokens,
+                            () -> chat
+                                    .prompt()
+                                    .system(MEMORY_SUMMARY_PROMPT)
+                                    .user(user.toString())
+                                    .call()
+                                    .chatResponse()))));
+        } catch (Exception e) {
+            log.warn("Conversation summary failed: {}", e.getMessage());
+            throw AiErrors.translate(e);
+        }
+    }
+
+    /**
+     * 토큰 예산 안에서 프롬프트 조립
+     * 1) 현재 메시지와 시스템 프롬프트 고정부(머리말/진행률/응답 규칙)는 항상 포함
+     * 2) 남는 예산으로 오늘의 할 일을 앞에서부터
+     * 3) 그래도 남으면 이전 대화 누적 요약
+     * 4) 남은 예산으로 최근 대화를 최신 메시지부터 거꾸로
+     */
+    AssembledPrompt buildMessages(String currentMessage, ChatMemory memory, List<Todo> contextTodos) {
+        int remaining = promptTokenBudget - countMessage(currentMessage);
+
         // 시스템 메시지 (컨텍스트 포함)
-        String systemPrompt = buildSystemPrompt(contextTodos);
-        messages.add(new SystemMessage(systemPrompt));
-        
-        // 대화 히스토리 추가 (최근 10개만)
-        if (history != null && !history.isEmpty()) {
-            List<ChatMessageDto> recentHistory = history.size() > 10 
-                ? history.subList(history.size() - 10, history.size()) 
-                : history;
-                
-            for (ChatMessageDto msg : recentHistory) {
-                if ("user".equals(msg.getRole())) {
-                    messages.add(new UserMessage(msg.getContent()));
-                } else if ("assistant".equals(msg.getRole())) {
-                    messages.add(new AssistantMessage(msg.getContent()));
-                }
+        String systemPrompt = buildSystemPrompt(contextTodos, remaining - MESSAGE_OVERHEAD_TOKENS);
+        remaining -= countMessage(systemPrompt);
+
+        // 이전 대화 누적 요약 (별도 시스템 메시지)
+        String summaryPrompt = null;
+        if (memory != null && memory.hasSummary()) {
+            String candidate = "이전 대화 요약:\n" + memory.summary();
+            int cost = countMessage(candidate);
+            if (cost <= remaining) {
+                remaining -= cost;
+                summaryPrompt = candidate;
             }
         }
-        
+
+        // 최근 대화 (최신부터 예산이 허락하는 만큼)
+        Deque<Message> recentHistory = new ArrayDeque<>();
+        if (memory != null) {
+            List<ChatConversation.ChatMessage> history = memory.recentMessages();
+            for (int i = history.size() - 1; i >= 0; i--) {
+                ChatConversation.ChatMessage msg = history.get(i);
+                if (!"user".equals(msg.getRole()) && !"assistant".equals(msg.getRole())) continue;
+
+                int cost = countMessage(msg.getContent());
+                if (cost > remaining) break;
+                remaining -= cost;
+
+                recentHistory.addFirst("user".equals(msg.getRole())
+                        ? new UserMessage(msg.getContent())
+                        : new AssistantMessage(msg.getContent()));
+            }
+        }
+
+        List<Message> messages = new ArrayList<>(recentHistory.size() + 3);
+        messages.add(new SystemMessage(systemPrompt));
+        if (summaryPrompt != null) messages.add(new SystemMessage(summaryPrompt));
+        messages.addAll(recentHistory);
         // 현재 사용자 메시지
         messages.add(new UserMessage(currentMessage));
-        
-        return messages;
+
+        log.debug("Prompt assembled: {} history messages, ~{} tokens left of {}",
+                recentHistory.size(), remaining, promptTokenBudget);
+        return new AssembledPrompt(messages, promptTokenBudget - remaining);
     }
 
-    private String buildSystemPrompt(List<Todo> contextTodos) {
+    String buildSystemPrompt(List<Todo> contextTodos, int budget) {
         String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("당신은 간결하고 실용적인 할 일 관리 어시스턴트입니다.\n");
-        prompt.append("현재 날짜: ").append(today).append("\n\n");
+        String header = "당신은 간결하고 실용적인 할 일 관리 어시스턴트입니다.\n" +
+                "현재 날짜: " + today + "\n\n";
+        String rules = "응답 규칙:\n" +
+                "- 3줄 이내로 간결하게 답변\n" +
+                "- 필요시에만 이모지 사용\n" +
+                "- 구체적이고 실행 가능한 조언 제공\n" +
+                "- 불필요한 격려나 부연설명 최소화\n";
+
+        StringBuilder prompt = new StringBuilder(header);
 
         if (contextTodos != null && !contextTodos.isEmpty()) {
-            prompt.append("오늘의 할 일:\n");
             int totalTodos = contextTodos.size();
             long completedTodos = contextTodos.stream().mapToLong(t -> t.isDone() ? 1 : 0).sum();
+            String progress = "진행률: " + completedTodos + "/" + totalTodos + "\n\n";
+            String title = "오늘의 할 일:\n";
+
+            int remaining = budget - tokenCounter.count(header) - tokenCounter.count(title)
+                    - tokenCounter.count(progress) - tokenCounter.count(rules);
 
-            for (Todo todo : contextTodos) {
+            List<String> lines = new ArrayList<>(totalTodos);
+            int[] costs = new int[totalTodos];
+            int allCost = 0;
+            for (int i = 0; i < totalTodos; i++) {
+                Todo todo = contextTodos.get(i);
                 String status = todo.isDone() ? "✅" : "◯";
-                prompt.append("  ").append(status).append(" ").append(todo.getText()).append("\n");
+                lines.add("  " + status + " " + todo.getText() + "\n");
+                costs[i] = tokenCounter.count(lines.get(i));
+                allCost += costs[i];
+            }
+            // 다 들어가지 않으면 "… 외 N건" 줄 몫을 먼저 떼어 둔다 (N이 가장 클 때 기준)
+            if (allCost > remaining) {
+                remaining -= tokenCounter.count(overflowLine(totalTodos));
+            }
+
+            prompt.append(title);
+            int included = 0;
+            for (int i = 0; i < totalTodos; i++) {
+                if (costs[i] > remaining) break;
+                remaining -= costs[i];
+                prompt.append(lines.get(i));
+                included++;
+            }
+            if (included < totalTodos) {
+                prompt.append(overflowLine(totalTodos - included));
             }
 
-            prompt.append("진행률: ").append(completedTodos).append("/").append(totalTodos).append("\n\n");
+            prompt.append(progress);
         } else {
             prompt.append("오늘 등록된 할 일이 없습니다.\n\n");
         }
 
-        prompt.append("응답 규칙:\n");
-        prompt.append("- 3줄 이내로 간결하게 답변\n");
-        prompt.append("- 필요시에만 이모지 사용\n");
-        prompt.append("- 구체적이고 실행 가능한 조언 제공\n");
-        prompt.append("- 불필요한 격려나 부연설명 최소화\n");
+        prompt.append(rules);
 
         return prompt.toString();
     }
 
+    /**
+     * 응답의 usage 메타데이터로 사용량을 만들고, 없으면 조립된 프롬프트 토큰 수 + 응답 본문 토큰 수로 추정
+     */
+    private ChatReply usageOf(ChatResponse response, AssembledPrompt prompt, String content) {
+        Usage usage = response != null && response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+        Long promptTokens = usage != null ? usage.getPromptTokens() : null;
+        Long completionTokens = usage != null ? usage.getGenerationTokens() : null;
+        if (promptTokens != null && promptTokens > 0) {
+            return ChatReply.usage(promptTokens.intValue(), completionTokens != null ? completionTokens.intValue() : 0);
+        }
+        return ChatReply.usage(prompt.tokens(), tokenCounter.count(content));
+    }
+
+    private static String overflowLine(int omitted) {
+        return "  … 외 " + omitted + "건\n";
+    }
+
+    /** 조립된 메시지와 그 토큰 수 */
+    record AssembledPrompt(List<Message> messages, int tokens) {
+    }
+
+    /** 메시지 본문 + 역할/구분자 오버헤드 */
+    private int countMessage(String content) {
+        return tokenCounter.count(content) + MESSAGE_OVERHEAD_TOKENS;
+    }
+
     private String getErrorMessage(Exception e) {
         if (e.getMessage() != null && e.getMessage().contains("rate limit")) {
             return "잠시만요! AI 서비스가 많이 사용되고 있어요. 😅\n잠깐 기다렸다가 다시 말씀해주시겠어요?";
@@ -2,30 +2,99 @@ package com.best.caltodocrud.infrastructure.ai;
 
 import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
 import com.best.caltodocrud.application.port.out.AiSummaryServicePort;
+import com.best.caltodocrud.application.port.out.TokenCounterPort;
 import com.best.caltodocrud.domain.SummaryResult;
+import com.best.caltodocrud.domain.exception.AiCircuitOpenException;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.ResponseFormat;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * 일정 요약 (OpenAI)
+ * - 응답은 Payload의 JSON 스키마로 강제 (response_format=json_schema, 끄면 프롬프트 지시만)
+ * - 스키마대로 파싱이 안 되면 관대한 파서로 필드를 건지고, 그래도 안 되면 format-retries번까지 다시 요청
+ * - 호출이 실패하거나 회로가 열려 있으면 규칙 기반 요약(SimpleSummaryService)으로 대체 (fallback=true)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@Primary
 @ConditionalOnProperty(prefix = "app.ai", name = "enabled", havingValue = "true")
 public class OpenAiChatClientAdapter implements AiSummaryServicePort {
 
     private final ChatClient chat;
-    private final ObjectMapper om = new ObjectMapper();
+    private final TokenCounterPort tokenCounter;
+    private final AiCallLimiter limiter;
+    private final AiCircuitBreaker circuitBreaker;
+    private final AiMetrics metrics;
+    private final SimpleSummaryService ruleBased;
+    private final BeanOutputConverter<Payload> converter;
+    private final OpenAiChatOptions options;
+    private final int formatRetries;
 
     @Value("${app.ai.locale:ko}")
     private String locale;
 
+    @Value("${app.ai.limiter.completion-token-allowance:400}")
+    private int completionTokenAllowance;
+
+    public OpenAiChatClientAdapter(ChatClient chat,
+                                   TokenCounterPort tokenCounter,
+                                   AiCallLimiter limiter,
+                                   AiCircuitBreaker circuitBreaker,
+                                   AiMetrics metrics,
+                                   SimpleSummaryService ruleBased,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.ai.summary.json-schema:true}") boolean jsonSchema,
+                                   @Value("${app.ai.summary.format-retries:1}") int formatRetries) {
+        this.chat = chat;
+        this.tokenCounter = tokenCounter;
+        this.limiter = limiter;
+        this.circuitBreaker = circuitBreaker;
+        this.metrics = metrics;
+        this.ruleBased = ruleBased;
+        this.converter = new BeanOutputConverter<>(Payload.class, objectMapper);
+        this.options = jsonSchema
+                ? OpenAiChatOptions.builder()
+                        .withResponseFormat(new ResponseFormat(ResponseFormat.Type.JSON_SCHEMA, converter.getJsonSchema()))
+                        .build()
+                : OpenAiChatOptions.builder().build();
+        this.formatRetries = formatRetries;
+    }
+
+    private static final String SYSTEM_PROMPT = """
+            당신은 한국어로 일정을 요약해주는 AI 어시스턴트입니다.
+            
+            반드시 다음 JSON 형식으로만 응답해주세요:
+            {
+              "title": "요약 제목 (한국어)",
+              "oneLine": "한 줄 요약 (한국어)",
+              "bullets": "세부사항 (\\n으로 구분된 한국어 불릿 포인트)",
+              "riskNote": "주의사항 (없으면 '특별한 주의사항 없음')",
+              "freeText": "자연스러운 2-4문장 서술형 요약 (한국어)"
+            }
+            
+            규칙:
+            - 오직 JSON 객체만 출력하세요
+            - 모든 값은 한국어로 작성하세요
+            - 줄바꿈은 \\n 사용하세요
+            - 간결하고 실용적으로 작성하세요
+            """;
+
     @Override
     public SummaryResult summarize(SummarizeScheduleCommand cmd) {
         try {
@@ -34,101 +103,165 @@ public class OpenAiChatClientAdapter implements AiSummaryServicePort {
                             t.isDone() ? "x" : " ", t.getText(), t.getDate()))
                     .collect(Collectors.joining("\n"));
 
-            String system = """
-                    당신은 한국어로 일정을 요약해주는 AI 어시스턴트입니다.
-                    
-                    반드시 다음 JSON 형식으로만 응답해주세요:
-                    {
-                      "title": "요약 제목 (한국어)",
-                      "oneLine": "한 줄 요약 (한국어)",
-                      "bullets": "세부사항 (\\n으로 구분된 한국어 불릿 포인트)",
-                      "riskNote": "주의사항 (없으면 '특별한 주의사항 없음')",
-                      "freeText": "자연스러운 2-4문장 서술형 요약 (한국어)"
-                    }
-                    
-                    규칙:
-                    - 오직 JSON 객체만 출력하세요
-                    - 모든 값은 한국어로 작성하세요
-                    - 줄바꿈은 \\n 사용하세요
-                    - 간결하고 실용적으로 작성하세요
-                    """;
-
             String user = """
                     기간: %s ~ %s
                     일정:
                     %s
                     """.formatted(cmd.getFrom(), cmd.getTo(), todosBlock);
 
-            String raw = chat
-                    .prompt()
-                    .system(system)
-                    .user(user)
-                    .call()
-                    .content();
+            return generate("summary", user);
+
+        } catch (Exception e) {
+            logFallback("summarize", e);
+            return ruleBased.summarize(cmd).toBuilder().fallback(true).build();
+        }
+    }
+
+    /**
+     * 구간별 요약을 하나로 합침 - 할 일 원문 대신 요약만 넣으므로 기간이 길어도 프롬프트가 작다
+     */
+    @Override
+    public SummaryResult merge(String from, String to, List<SummaryResult> parts) {
+        try {
+            StringBuilder partsBlock = new StringBuilder();
+            for (int i = 0; i < parts.size(); i++) {
+                SummaryResult p = parts.get(i);
+                partsBlock.append("### 구간 ").append(i + 1).append('\n')
+                        .append("제목: ").append(p.getTitle()).append('\n')
+                        .append("한 줄: ").append(p.getOneLine()).append('\n')
+                        .append("세부:\n").append(p.getBullets()).append('\n')
+                        .append("주의: ").append(p.getRiskNote()).append('\n')
+                        .append("서술: ").append(p.getFreeText()).append("\n\n");
+            }
 
-            String json = extractJson(raw);
-            Payload p = om.readValue(json, Payload.class);
+            String user = """
+                    기간: %s ~ %s
+                    아래는 이 기간을 시간순으로 나눈 구간별 요약입니다.
+                    중복은 합치고 기간 전체의 흐름이 보이도록 하나의 요약으로 정리해주세요.
+                    
+                    %s""".formatted(from, to, partsBlock);
 
-            return SummaryResult.builder()
-                    .title(z(p.title, "일정 요약"))
-                    .oneLine(z(p.oneLine, "핵심 일정만 간단히 정리했어요."))
-                    .bullets(z(p.bullets, "• 요약 정보가 충분하지 않습니다."))
-                    .riskNote(z(p.riskNote, "특별한 주의사항 없음"))
-                    .freeText(z(p.freeText, p.oneLine))
-                    .build();
+            return generate("summary.merge", user);
 
         } catch (Exception e) {
-            log.warn("LLM summarize failed, fallback to minimal summary", e);
-            String first = cmd.getTodos().isEmpty() ? "" : cmd.getTodos().get(0).getText();
-            return SummaryResult.builder()
-                    .title("일정 요약")
-                    .oneLine(first.isBlank() ? "요약할 일정이 적습니다." : "주요 일정: " + first + " 등")
-                    .bullets(first.isBlank() ? "• 일정이 충분치 않습니다." : "• " + first)
-                    .riskNote("특별한 주의사항 없음")
-                    .freeText(first.isBlank()
-                            ? "선택된 기간에 일정이 충분하지 않아요."
-                            : "간단히 정리했어요. 대표 일정은 '" + first + "' 입니다.")
-                    .build();
+            logFallback("summary merge", e);
+            return ruleBased.merge(from, to, parts).toBuilder().fallback(true).build();
+        }
+    }
+
+    private static void logFallback(String operation, Exception e) {
+        // 회로가 열린 동안은 요청마다 같은 경고를 남기지 않는다
+        if (e instanceof AiCircuitOpenException) {
+            log.debug("AI circuit open, rule-based {}", operation);
+        } else {
+            log.warn("LLM {} failed, fallback to rule-based summary", operation, e);
         }
     }
 
-    /** JSON 추출 및 정리 */
-    private static String extractJson(String content) {
-        if (content == null || content.trim().isEmpty()) return "{}";
-
-        String cleaned = content.trim()
-                .replaceAll("^```json\\s*", "")
-                .replaceAll("^```\\s*", "")
-                .replaceAll("```\\s*$", "")
-                .trim();
-        
-        // JSON 객체 추출 시도
-        int start = cleaned.indexOf('{');
-        int end = cleaned.lastIndexOf('}');
-        
-        if (start >= 0 && end > start) {
-            return cleaned.substring(start, end + 1);
+    /** 요청 → 파싱, 형식이 깨진 응답은 format-retries번까지 다시 요청 */
+    private SummaryResult generate(String operation, String user) {
+        for (int attempt = 0; ; attempt++) {
+            String raw = call(operation, user);
+            Optional<SummaryResult> parsed = parse(operation, raw);
+            if (parsed.isPresent()) return parsed.get();
+
+            if (attempt >= formatRetries) {
+                throw new IllegalStateException("Malformed summary output after " + (attempt + 1) + " attempts");
+            }
+            log.warn("Malformed summary output for {}, retrying ({}/{})", operation, attempt + 1, formatRetries);
+        }
+    }
+
+    private String call(String operation, String user) {
+        int estimatedTokens = tokenCounter.count(SYSTEM_PROMPT) + tokenCounter.count(user) + completionTokenAllowance;
+        return AiMetrics.content(circuitBreaker.call(() -> metrics.time(operation,
+                () -> limiter.call(AiCallLimiter.Pool.SUMMARY, estimatedTokens,
+                        () -> chat
+                                .prompt()
+                                .system(SYSTEM_PROMPT)
+                                .user(user)
+                                .options(options)
+                                .call()
+                                .chatResponse()))));
+    }
+
+    /**
+     * 1) 스키마대로 바로 변환 (코드 펜스는 변환기가 제거)
+     * 2) 실패하면 설명 문장/잘린 출력에서도 필드를 건지는 관대한 파서
+     * 3) 본문 필드가 하나도 없으면 형식 오류
+     */
+    Optional<SummaryResult> parse(String operation, String raw) {
+        if (raw == null || raw.isBlank()) {
+            metrics.recordOutput(operation, "malformed");
+            return Optional.empty();
+        }
+
+        try {
+            Payload p = converter.convert(raw);
+            if (p != null && p.hasBody()) {
+                metrics.recordOutput(operation, "valid");
+                return Optional.of(toResult(p));
+            }
+        } catch (RuntimeException e) {
+            log.debug("Summary output is not strict JSON: {}", e.getMessage());
+        }
+
+        Map<String, String> fields = new IncrementalJsonFieldParser().append(raw).fields(true);
+        Payload p = Payload.of(fields);
+        if (p.hasBody()) {
+            metrics.recordOutput(operation, "repaired");
+            return Optional.of(toResult(p));
         }
-        
-        // JSON이 아닌 경우 기본 구조로 래핑
-        return String.format(
-            "{\"title\":\"일정 요약\",\"oneLine\":\"%s\",\"bullets\":\"• %s\",\"riskNote\":\"특별한 주의사항 없음\",\"freeText\":\"%s\"}", 
-            cleaned.replace("\"", "\\\""), 
-            cleaned.replace("\"", "\\\""), 
-            cleaned.replace("\"", "\\\"")
-        );
+
+        metrics.recordOutput(operation, "malformed");
+        return Optional.empty();
+    }
+
+    private static SummaryResult toResult(Payload p) {
+        return SummaryResult.builder()
+                .title(z(p.title, "일정 요약"))
+                .oneLine(z(p.oneLine, "핵심 일정만 간단히 정리했어요."))
+                .bullets(z(p.bullets, "• 요약 정보가 충분하지 않습니다."))
+                .riskNote(z(p.riskNote, "특별한 주의사항 없음"))
+                .freeText(z(p.freeText, p.oneLine))
+                .build();
     }
 
     private static String z(String s, String def) {
         return (s == null || s.isBlank()) ? def : s;
     }
 
+    /** 응답 스키마 (strict json_schema는 모든 필드가 required여야 함) */
     @JsonIgnoreProperties(ignoreUnknown = true)
     static class Payload {
+        @JsonProperty(required = true) @JsonPropertyDescription("요약 제목")
         public String title;
+        @JsonProperty(required = true) @JsonPropertyDescription("한 줄 요약")
         public String oneLine;
+        @JsonProperty(required = true) @JsonPropertyDescription("\\n으로 구분된 불릿 포인트")
         public String bullets;
+        @JsonProperty(required = true) @JsonPropertyDescription("주의사항, 없으면 '특별한 주의사항 없음'")
         public String riskNote;
+        @JsonProperty(required = true) @JsonPropertyDescription("2-4문장 서술형 요약")
         public String freeText;
+
+        static Payload of(Map<String, String> fields) {
+            Payload p = new Payload();
+            p.title = fields.get("title");
+            p.oneLine = fields.get("oneLine");
+            p.bullets = fields.get("bullets");
+            p.riskNote = fields.get("riskNote");
+            p.freeText = fields.get("freeText");
+            return p;
+        }
+
+        /** 제목/주의사항만으로는 요약이라 할 수 없음 */
+        boolean hasBody() {
+            return !isBlank(oneLine) || !isBlank(bullets) || !isBlank(freeText);
+        }
+
+        private static boolean isBlank(String s) {
+            return s == null || s.isBlank();
+        }
     }
 }
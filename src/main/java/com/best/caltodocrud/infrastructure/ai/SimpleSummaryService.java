@@ -3,14 +3,16 @@ package com.best.caltodocrud.infrastructure.ai;
 import com.best.caltodocrud.application.port.in.summarize.SummarizeScheduleCommand;
 import com.best.caltodocrud.application.port.out.AiSummaryServicePort;
 import com.best.caltodocrud.domain.SummaryResult;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * 규칙 기반 요약 - AI 비활성화 시 기본 구현, AI 사용 시에도 실패한 요약의 대체용으로 항상 등록
+ */
 @Component
-@ConditionalOnProperty(prefix = "app.ai", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class SimpleSummaryService implements AiSummaryServicePort {
 
     @Override
@@ -44,4 +46,22 @@ public class SimpleSummaryService implements AiSummaryServicePort {
                 .freeText(free)
                 .build();
     }
+
+    @Override
+    public SummaryResult merge(String from, String to, List<SummaryResult> parts) {
+        String risks = parts.stream()
+                .map(SummaryResult::getRiskNote)
+                .filter(r -> r != null && !r.isBlank() && !"특별한 주의사항 없음".equals(r))
+                .distinct()
+                .collect(Collectors.joining(" / "));
+
+        return SummaryResult.builder()
+                .title("일정 요약")
+                .oneLine(parts.stream().map(SummaryResult::getOneLine).collect(Collectors.joining(" / ")))
+                .bullets(parts.stream().map(SummaryResult::getBullets).collect(Collectors.joining("\n")))
+                .riskNote(risks.isEmpty() ? "특별한 주의사항 없음" : risks)
+                .freeText(String.format("%s부터 %s까지 구간별 요약이에요. %s", from, to,
+                        parts.stream().map(SummaryResult::getFreeText).collect(Collectors.joining(" "))))
+                .build();
+    }
 }
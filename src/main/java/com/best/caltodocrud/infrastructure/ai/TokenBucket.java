@@ -0,0 +1,56 @@
+package com.best.caltodocrud.infrastructure.ai;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 분당 한도를 연속적으로 채우는 토큰 버킷 (예약 방식)
+ * 잔량이 모자라면 음수로 미리 빌려 두고, 호출자는 돌려받은 시간만큼 락 밖에서 기다린다
+ */
+class TokenBucket {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double capacity;
+    private final double permitsPerNano;
+    private double available;
+    private long lastRefill;
+
+    TokenBucket(long permitsPerMinute) {
+        this.capacity = permitsPerMinute;
+        this.permitsPerNano = permitsPerMinute / 60_000_000_000d;
+        this.available = permitsPerMinute;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * permits만큼 예약하고 기다려야 할 시간(ns)을 돌려준다.
+     * deadline까지 기다려도 안 되면 예약하지 않고 -1
+     */
+    long reserve(long permits, long deadlineNanos) {
+        double wanted = Math.min(permits, capacity);
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            available = Math.min(capacity, available + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+
+            long waitNanos = available >= wanted ? 0L : (long) ((wanted - available) / permitsPerNano);
+            if (now + waitNanos > deadlineNanos) {
+                return -1L;
+            }
+            available -= wanted;
+            return waitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 예약했지만 쓰지 않은 만큼 되돌림 */
+    void refund(long permits) {
+        lock.lock();
+        try {
+            available = Math.min(capacity, available + Math.min(permits, capacity));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
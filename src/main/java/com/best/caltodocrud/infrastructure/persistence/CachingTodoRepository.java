@@ -0,0 +1,178 @@
+package com.best.caltodocrud.infrastructure.persistence;
+
+import com.best.caltodocrud.application.port.out.TodoRepositoryPort;
+import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
+import com.best.caltodocrud.infrastructure.persistence.jpa.TodoJpaAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 날짜별 할 일 read-through 캐시 (TodoRepositoryPort 데코레이터)
+ * - 항목 = 날짜 하나의 할 일 목록 (id 순, 빈 목록도 캐시). 크기는 할 일 개수로 가중해 max-todos를 넘으면 축출
+ * - findRange는 캐시에 있는 날짜 + 없는 날짜 구간을 한 번에 읽는 쿼리 하나로 조립 (max-range-days보다 긴 기간은 그대로 DB로)
+ * - 쓰기 메서드는 영향받은 날짜를 바로 비우고, 커밋 뒤 TodoChangedEvent로 한 번 더 비운다 (커밋 전에 다른 요청이 옛 값을 읽어 넣은 경우)
+ *   삭제는 날짜를 모르므로 이벤트로만 비운다
+ * - 적중 시 DB 연결/트랜잭션을 쓰지 않도록 호출 측(GetTodosService)은 조회를 트랜잭션으로 감싸지 않는다
+ *   빠진 날짜 로드는 Spring Data 쿼리 메서드의 읽기 전용 트랜잭션에서 실행
+ * - 다른 인스턴스/수동 SQL 변경은 ttl이 지나야 반영된다
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingTodoRepository implements TodoRepositoryPort {
+
+    private final TodoRepositoryPort delegate;
+    private final Cache<LocalDate, List<Todo>> byDate;
+    private final int maxRangeDays;
+    // 무효화마다 증가 - 일괄 로드 도중 무효화가 끼어들었는지 판단
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CachingTodoRepository(TodoJpaAdapter delegate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.todo.cache.max-todos:50000}") long maxTodos,
+                                 @Value("${app.todo.cache.ttl:1h}") Duration ttl,
+                                 @Value("${app.todo.cache.max-range-days:62}") int maxRangeDays) {
+        this.delegate = delegate;
+        this.byDate = Caffeine.newBuilder()
+                .maximumWeight(maxTodos)
+                .weigher((LocalDate date, List<Todo> todos) -> todos.size() + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.maxRangeDays = maxRangeDays;
+        CaffeineCacheMetrics.monitor(meterRegistry, byDate, "todo.by-date");
+    }
+
+    @Override
+    public List<Todo> findByDate(LocalDate date) {
+        // 같은 키의 로드와 무효화는 Caffeine이 직렬화하므로 옛 값이 남지 않는다
+        return byDate.get(date, delegate::findByDate);
+    }
+
+    @Override
+    public List<Todo> findRange(LocalDate from, LocalDate to) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days <= 0 || days > maxRangeDays) {
+            return delegate.findRange(from, to);
+        }
+
+        List<LocalDate> dates = from.datesUntil(to.plusDays(1)).toList();
+        long before = invalidations.get();
+        Set<LocalDate> loaded = new HashSet<>();
+        Map<LocalDate, List<Todo>> found = byDate.getAll(dates, missing -> {
+            loaded.addAll(missing);
+            return loadSpan(missing);
+        });
+        // 일괄 로드는 무효화와 직렬화되지 않으므로, 그 사이 무효화가 있었으면 방금 넣은 항목을 버린다
+        if (!loaded.isEmpty() && invalidations.get() != before) {
+            byDate.invalidateAll(loaded);
+        }
+
+        List<Todo> out = new ArrayList<>();
+        for (LocalDate date : dates) {
+            out.addAll(found.getOrDefault(date, List.of()));
+        }
+        return out;
+    }
+
+    /** 빠진 날짜들의 최소~최대 구간을 한 번에 읽어 날짜별로 나눈다 (사이에 낀 캐시된 날짜도 같이 읽힘) */
+    private Map<LocalDate, List<Todo>> loadSpan(Set<? extends LocalDate> missing) {
+        LocalDate min = Collections.min(missing);
+        LocalDate max = Collections.max(missing);
+        Map<LocalDate, List<Todo>> grouped = delegate.findRange(min, max).stream()
+                .collect(Collectors.groupingBy(Todo::getDate, Collectors.toUnmodifiableList()));
+
+        Map<LocalDate, List<Todo>> result = new HashMap<>();
+        for (LocalDate date : missing) {
+            result.put(date, grouped.getOrDefault(date, List.of()));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Todo> findRangeAfter(LocalDate afterDate, long afterId, LocalDate to, int limit) {
+        // 내보내기/페이지 조회는 한 번 읽고 끝나므로 캐시를 채우지 않는다
+        return delegate.findRangeAfter(afterDate, afterId, to, limit);
+    }
+
+    @Override
+    public Optional<Todo> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Todo save(Todo todo) {
+        Todo saved = delegate.save(todo);
+        invalidate(datesOf(List.of(todo, saved)));
+        return saved;
+    }
+
+    @Override
+    public Optional<Todo> patch(Long id, String text, Boolean done) {
+        Optional<Todo> patched = delegate.patch(id, text, done);
+        patched.ifPresent(t -> invalidate(Set.of(t.getDate())));
+        return patched;
+    }
+
+    @Override
+    public List<Todo> updateDone(Collection<Long> ids, boolean done) {
+        List<Todo> changed = delegate.updateDone(ids, done);
+        invalidate(datesOf(changed));
+        return changed;
+    }
+
+    @Override
+    public List<Todo> updateDoneByDate(LocalDate date, boolean done) {
+        List<Todo> changed = delegate.updateDoneByDate(date, done);
+        if (!changed.isEmpty()) invalidate(Set.of(date));
+        return changed;
+    }
+
+    @Override
+    public List<Todo> upsertAll(List<Todo> todos) {
+        List<Todo> saved = delegate.upsertAll(todos);
+        invalidate(datesOf(todos));
+        return saved;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        // 날짜를 모르므로 DeleteTodoService가 발행하는 TodoChangedEvent(커밋 후)로 무효화한다
+        delegate.deleteById(id);
+    }
+
+    /** 커밋 뒤 무효화 - 다른 커밋 후 리스너보다 먼저 돌아 새 값을 읽게 한다 */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        invalidate(event.dates().stream().map(LocalDate::parse).collect(Collectors.toSet()));
+        log.debug("Todo cache invalidated for dates {}", event.dates());
+    }
+
+    private void invalidate(Set<LocalDate> dates) {
+        if (dates.isEmpty()) return;
+        invalidations.incrementAndGet();
+        byDate.invalidateAll(dates);
+    }
+
+    private static Set<LocalDate> datesOf(Collection<Todo> todos) {
+        return todos.stream().map(Todo::getDate).collect(Collectors.toSet());
+    }
+}
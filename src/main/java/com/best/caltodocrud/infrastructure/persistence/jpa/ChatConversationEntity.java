@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -12,7 +13,8 @@ import java.util.UUID;
 
 /**
  * 챗봇 대화 JPA 엔티티
- * PostgreSQL의 JSONB 타입을 활용한 대화 내역 저장
+ * PostgreSQL의 JSONB 타입을 활용한 대화 메타데이터 저장
+ * 메시지 본문은 chat_messages 테이블에 행 단위로 저장된다
  */
 @Entity
 @Table(name = "chat_conversations", indexes = {
@@ -26,10 +28,13 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ChatConversationEntity {
+public class ChatConversationEntity implements Persistable<UUID> {
     
+    /**
+     * 도메인에서 UUID를 미리 발급한다 (메시지 행이 이 값을 참조)
+     * id가 항상 있으므로 새 대화인지는 newEntity로 알린다 - 없으면 save가 merge로 가서 INSERT 전에 SELECT가 한 번 더 나간다
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
     
     @Column(name = "session_id", nullable = false)
@@ -45,12 +50,6 @@ public class ChatConversationEntity {
     @Column(nullable = false)
     private ChatConversation.ConversationStatus status;
     
-    /**
-     * 메시지 배열을 JSONB로 저장
-     */
-    @Column(columnDefinition = "jsonb", nullable = false)
-    private String messages;
-
     /**
      * 대화 메타데이터를 JSONB로 저장
      */
@@ -76,4 +75,19 @@ public class ChatConversationEntity {
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /** true면 save가 em.persist로 바로 INSERT (저장/조회 후에는 false) */
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
@@ -2,11 +2,17 @@ package com.best.caltodocrud.infrastructure.persistence.jpa;
 
 import com.best.caltodocrud.application.port.out.ChatConversationRepositoryPort;
 import com.best.caltodocrud.domain.ChatConversation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -21,47 +27,126 @@ import java.util.stream.Collectors;
 public class ChatConversationJpaAdapter implements ChatConversationRepositoryPort {
     
     private final SpringDataChatConversationRepository repository;
+    private final SpringDataChatMessageRepository messageRepository;
     private final ChatConversationMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
     
     @Override
     @Transactional
     public ChatConversation save(ChatConversation conversation) {
+        List<ChatConversation.ChatMessage> messages =
+                conversation.getMessages() != null ? conversation.getMessages() : List.of();
         log.info("Saving chat conversation - sessionId: {}, messageCount: {}",
-                conversation.getSessionId(),
-                conversation.getMessages() != null ? conversation.getMessages().size() : 0);
+                conversation.getSessionId(), messages.size());
 
         try {
-            // mapper.toEntity()에서 이미 JSON 문자열로 변환됨
             ChatConversationEntity entity = mapper.toEntity(conversation);
-            log.info("Entity created successfully with messages JSON length: {}",
-                    entity.getMessages() != null ? entity.getMessages().length() : 0);
-
             ChatConversationEntity saved = repository.save(entity);
             log.info("Entity saved to database with ID: {}", saved.getId());
 
-            return mapper.toDomain(saved);
+            // 전체 저장은 메시지 행을 통째로 교체 (대화 중 추가는 appendMessages 사용)
+            messageRepository.deleteByConversationId(saved.getId());
+            List<ChatMessageEntity> messageEntities = messageRepository.saveAll(
+                    messages.stream().map(m -> mapper.toMessageEntity(saved.getId(), m)).toList());
+            recordPayload("save", utf8Length(entity.getMetadata()) + payloadBytes(messageEntities));
+
+            return mapper.toDomain(saved, messageEntities);
         } catch (Exception e) {
             log.error("Failed to save chat conversation: {}", e.getMessage(), e);
             throw e;
         }
     }
+
+    @Override
+    @Transactional
+    public ChatConversation create(ChatConversation conversation) {
+        ChatConversationEntity entity = mapper.toEntity(conversation);
+        entity.setNewEntity(true);
+        ChatConversationEntity saved = repository.save(entity);
+        recordPayload("create", utf8Length(entity.getMetadata()));
+        return mapper.toDomain(saved);
+    }
+
+    @Override
+    @Transactional
+    public void appendMessages(UUID conversationId,
+                               List<ChatConversation.ChatMessage> messages,
+                               ChatConversation.ConversationMetadata delta) {
+        List<ChatMessageEntity> messageEntities = messages.stream()
+                .map(m -> mapper.toMessageEntity(conversationId, m))
+                .toList();
+        messageRepository.saveAll(messageEntities);
+        recordPayload("append", payloadBytes(messageEntities));
+
+        try {
+            int updated = repository.appendCounters(
+                    conversationId,
+                    LocalDateTime.now(),
+                    delta.getTotalMessages() != null ? delta.getTotalMessages() : messages.size(),
+                    delta.getTotalTokensUsed() != null ? delta.getTotalTokensUsed() : 0,
+                    delta.getTotalDurationMs() != null ? delta.getTotalDurationMs() : 0L,
+                    objectMapper.writeValueAsString(
+                            delta.getTopicsDiscussed() != null ? delta.getTopicsDiscussed() : List.of()),
+                    delta.getPrimaryIntent(),
+                    delta.getRunningSummary(),
+                    delta.getSummarizedMessages());
+            if (updated == 0) {
+                throw new IllegalStateException("Conversation not found: " + conversationId);
+            }
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize topics", e);
+        }
+
+        log.info("Appended {} messages to conversation {}", messages.size(), conversationId);
+    }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<ChatConversation> findById(UUID id) {
         return repository.findById(id)
-            .map(mapper::toDomain);
+            .map(this::toDomainWithMessages);
     }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<ChatConversation> findActiveBySessionId(String sessionId) {
-        return repository.findBySessionIdAndStatus(
+        return repository.findFirstBySessionIdAndStatusOrderByLastMessageAtDesc(
+            sessionId, 
+            ChatConversation.ConversationStatus.ACTIVE
+        ).map(this::toDomainWithMessages);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChatConversation> findActiveHeaderBySessionId(String sessionId) {
+        return repository.findFirstBySessionIdAndStatusOrderByLastMessageAtDesc(
             sessionId, 
             ChatConversation.ConversationStatus.ACTIVE
         ).map(mapper::toDomain);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChatConversation> findActiveWithRecentMessages(String sessionId, int lastN) {
+        return repository.findFirstBySessionIdAndStatusOrderByLastMessageAtDesc(
+            sessionId, 
+            ChatConversation.ConversationStatus.ACTIVE
+        ).map(entity -> toDomainWithRecentMessages(entity, lastN));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChatConversation> findHeaderById(UUID id) {
+        return repository.findById(id).map(mapper::toDomain);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChatConversation> findWithRecentMessages(UUID id, int lastN) {
+        return repository.findById(id).map(entity -> toDomainWithRecentMessages(entity, lastN));
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<ChatConversation> findRecentConversations(int limit) {
@@ -69,21 +154,15 @@ public class ChatConversationJpaAdapter implements ChatConversationRepositoryPor
             ChatConversation.ConversationStatus.ACTIVE
         ).stream()
             .limit(limit)
-            .map(mapper::toDomain)
+            .map(this::toDomainWithMessages)
             .collect(Collectors.toList());
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<ChatConversation> searchConversations(String keyword) {
-        // JSON 검색 쿼리 생성
-        String searchJson = String.format(
-            "[{\"content\": \"*%s*\"}]", 
-            keyword.replace("\"", "\\\"")
-        );
-        
-        return repository.searchInMessages(searchJson).stream()
-            .map(mapper::toDomain)
+        return repository.searchInMessages(keyword).stream()
+            .map(this::toDomainWithMessages)
             .collect(Collectors.toList());
     }
     
@@ -91,7 +170,7 @@ public class ChatConversationJpaAdapter implements ChatConversationRepositoryPor
     @Transactional(readOnly = true)
     public List<ChatConversation> findByDateRange(LocalDateTime start, LocalDateTime end) {
         return repository.findByStartedAtBetween(start, end).stream()
-            .map(mapper::toDomain)
+            .map(this::toDomainWithMessages)
             .collect(Collectors.toList());
     }
     
@@ -116,4 +195,37 @@ public class ChatConversationJpaAdapter implements ChatConversationRepositoryPor
         log.info("Archived {} old conversations", oldConversations.size());
     }
     
+    /** 저장한 JSON/본문 크기 (UTF-8 바이트) */
+    private void recordPayload(String operation, long bytes) {
+        DistributionSummary.builder("chat.conversation.save.payload")
+                .description("대화 저장 1회에 쓴 메타데이터/메시지 본문 크기")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+    
+    private static long payloadBytes(List<ChatMessageEntity> messages) {
+        long bytes = 0;
+        for (ChatMessageEntity m : messages) {
+            bytes += utf8Length(m.getContent()) + utf8Length(m.getMetadata());
+        }
+        return bytes;
+    }
+    
+    private static long utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+    
+    private ChatConversation toDomainWithRecentMessages(ChatConversationEntity entity, int lastN) {
+        if (lastN <= 0) return mapper.toDomain(entity);
+        List<ChatMessageEntity> recent = new ArrayList<>(
+                messageRepository.findByConversationIdOrderByIdDesc(entity.getId(), Limit.of(lastN)));
+        Collections.reverse(recent);
+        return mapper.toDomain(entity, recent);
+    }
+    
+    private ChatConversation toDomainWithMessages(ChatConversationEntity entity) {
+        return mapper.toDomain(entity, messageRepository.findByConversationIdOrderByIdAsc(entity.getId()));
+    }
 }
@@ -1,24 +1,38 @@
 package com.best.caltodocrud.infrastructure.persistence.jpa;
 
 import com.best.caltodocrud.domain.ChatConversation;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * ChatConversation Entity <-> Domain 매핑
+ * - JSONB 메타데이터는 중간 Map 없이 도메인 타입으로 바로 바인딩
+ * - ObjectReader/ObjectWriter는 불변이라 한 번 만들어 재사용 (타입별 직렬화기 조회 생략)
+ * - 숫자 타입이 바뀌어도(예: temperature 1 → Integer) Jackson이 필드 타입으로 변환
  */
 @Component
-@RequiredArgsConstructor
 public class ChatConversationMapper {
-    
-    private final ObjectMapper objectMapper;
-    
+
+    private final ObjectReader messageMetadataReader;
+    private final ObjectWriter messageMetadataWriter;
+    private final ObjectReader conversationMetadataReader;
+    private final ObjectWriter conversationMetadataWriter;
+
+    public ChatConversationMapper(ObjectMapper objectMapper) {
+        ObjectReader reader = objectMapper.reader()
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.messageMetadataReader = reader.forType(ChatConversation.MessageMetadata.class);
+        this.messageMetadataWriter = objectMapper.writerFor(ChatConversation.MessageMetadata.class);
+        this.conversationMetadataReader = reader.forType(ChatConversation.ConversationMetadata.class);
+        this.conversationMetadataWriter = objectMapper.writerFor(ChatConversation.ConversationMetadata.class);
+    }
+
     public ChatConversationEntity toEntity(ChatConversation domain) {
         try {
             return ChatConversationEntity.builder()
@@ -27,15 +41,39 @@ public class ChatConversationMapper {
                 .startedAt(domain.getStartedAt())
                 .lastMessageAt(domain.getLastMessageAt())
                 .status(domain.getStatus())
-                .messages(domain.getMessages() != null ? objectMapper.writeValueAsString(domain.getMessages()) : "[]")
-                .metadata(domain.getMetadata() != null ? objectMapper.writeValueAsString(domain.getMetadata()) : "{}")
+                .metadata(domain.getMetadata() != null ? conversationMetadataWriter.writeValueAsString(domain.getMetadata()) : "{}")
                 .build();
         } catch (Exception e) {
             throw new RuntimeException("Failed to convert domain to entity", e);
         }
     }
-    
+
+    public ChatMessageEntity toMessageEntity(UUID conversationId, ChatConversation.ChatMessage message) {
+        try {
+            return ChatMessageEntity.builder()
+                .conversationId(conversationId)
+                .messageId(message.getId())
+                .role(message.getRole())
+                .content(message.getContent())
+                .sentAt(message.getTimestamp())
+                .metadata(message.getMetadata() != null ? messageMetadataWriter.writeValueAsString(message.getMetadata()) : null)
+                .build();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to convert message to entity", e);
+        }
+    }
+
+    /**
+     * 메시지 없이 대화 헤더(메타데이터)만 변환
+     */
     public ChatConversation toDomain(ChatConversationEntity entity) {
+        return toDomain(entity, List.of());
+    }
+
+    /**
+     * 헤더 + 주어진 메시지 행으로 변환 (전체 또는 최근 N개 등 부분 조회 결과 그대로)
+     */
+    public ChatConversation toDomain(ChatConversationEntity entity, List<ChatMessageEntity> messageEntities) {
         try {
             ChatConversation domain = ChatConversation.builder()
                 .id(entity.getId())
@@ -45,25 +83,14 @@ public class ChatConversationMapper {
                 .status(entity.getStatus())
                 .build();
 
-            // JSON 문자열을 Domain 객체로 변환
-            if (entity.getMessages() != null && !entity.getMessages().isEmpty()) {
-                List<Map<String, Object>> messagesList = objectMapper.readValue(
-                    entity.getMessages(),
-                    new TypeReference<List<Map<String, Object>>>() {}
-                );
-                List<ChatConversation.ChatMessage> messages = messagesList.stream()
-                    .map(this::convertJsonToMessage)
-                    .collect(Collectors.toList());
-                domain.setMessages(messages);
+            List<ChatConversation.ChatMessage> messages = new ArrayList<>(messageEntities.size());
+            for (ChatMessageEntity messageEntity : messageEntities) {
+                messages.add(convertEntityToMessage(messageEntity));
             }
+            domain.setMessages(messages);
 
-            // JSON 메타데이터를 Domain 객체로 변환
             if (entity.getMetadata() != null && !entity.getMetadata().isEmpty()) {
-                Map<String, Object> metadataMap = objectMapper.readValue(
-                    entity.getMetadata(),
-                    new TypeReference<Map<String, Object>>() {}
-                );
-                domain.setMetadata(convertJsonToMetadata(metadataMap));
+                domain.setMetadata(readConversationMetadata(entity.getMetadata()));
             }
 
             return domain;
@@ -71,54 +98,24 @@ public class ChatConversationMapper {
             throw new RuntimeException("Failed to convert entity to domain", e);
         }
     }
-    
-    private ChatConversation.ChatMessage convertJsonToMessage(Map<String, Object> json) {
-        ChatConversation.ChatMessage message = ChatConversation.ChatMessage.builder()
-            .id((String) json.get("id"))
-            .role((String) json.get("role"))
-            .content((String) json.get("content"))
-            .timestamp(LocalDateTime.parse((String) json.get("timestamp")))
-            .build();
-        
-        if (json.containsKey("metadata")) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> metadataJson = (Map<String, Object>) json.get("metadata");
-            
-            ChatConversation.MessageMetadata metadata = ChatConversation.MessageMetadata.builder()
-                .model((String) metadataJson.get("model"))
-                .tokensUsed((Integer) metadataJson.get("tokensUsed"))
-                .temperature((Double) metadataJson.get("temperature"))
-                .responseTimeMs(getLongValue(metadataJson.get("responseTimeMs")))
-                .summaryType((String) metadataJson.get("summaryType"))
-                .build();
-            
-            message.setMetadata(metadata);
-        }
-        
-        return message;
-    }
-    
-    private ChatConversation.ConversationMetadata convertJsonToMetadata(Map<String, Object> json) {
-        return ChatConversation.ConversationMetadata.builder()
-            .totalMessages((Integer) json.get("totalMessages"))
-            .totalTokensUsed((Integer) json.get("totalTokensUsed"))
-            .totalDurationMs(getLongValue(json.get("totalDurationMs")))
-            .topicsDiscussed(getListValue(json.get("topicsDiscussed")))
-            .primaryIntent((String) json.get("primaryIntent"))
+
+    private ChatConversation.ChatMessage convertEntityToMessage(ChatMessageEntity entity) throws JsonProcessingException {
+        return ChatConversation.ChatMessage.builder()
+            .id(entity.getMessageId())
+            .role(entity.getRole())
+            .content(entity.getContent())
+            .timestamp(entity.getSentAt())
+            .metadata(entity.getMetadata() != null && !entity.getMetadata().isEmpty()
+                    ? messageMetadataReader.readValue(entity.getMetadata())
+                    : null)
             .build();
     }
-    
-    private Long getLongValue(Object value) {
-        if (value == null) return null;
-        if (value instanceof Long) return (Long) value;
-        if (value instanceof Integer) return ((Integer) value).longValue();
-        return Long.parseLong(value.toString());
-    }
-    
-    @SuppressWarnings("unchecked")
-    private List<String> getListValue(Object value) {
-        if (value == null) return new ArrayList<>();
-        if (value instanceof List) return (List<String>) value;
-        return new ArrayList<>();
+
+    private ChatConversation.ConversationMetadata readConversationMetadata(String json) throws JsonProcessingException {
+        ChatConversation.ConversationMetadata metadata = conversationMetadataReader.readValue(json);
+        if (metadata.getTopicsDiscussed() == null) {
+            metadata.setTopicsDiscussed(new ArrayList<>());
+        }
+        return metadata;
     }
 }
@@ -0,0 +1,48 @@
+package com.best.caltodocrud.infrastructure.persistence.jpa;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 챗봇 메시지 JPA 엔티티
+ * 대화당 한 행씩 추가만 되며, 기존 행은 다시 쓰지 않는다 (id 순서 = 대화 순서)
+ */
+@Entity
+@Table(name = "chat_messages", indexes = {
+    @Index(name = "idx_chat_messages_conversation", columnList = "conversation_id, id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "conversation_id", nullable = false)
+    private UUID conversationId;
+
+    @Column(name = "message_id", nullable = false, length = 64)
+    private String messageId;
+
+    @Column(nullable = false, length = 20)
+    private String role;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String content;
+
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+
+    /**
+     * 메시지 메타데이터를 JSONB로 저장
+     */
+    @Column(columnDefinition = "jsonb")
+    private String metadata;
+}
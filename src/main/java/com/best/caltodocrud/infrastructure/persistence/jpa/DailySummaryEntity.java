@@ -0,0 +1,40 @@
+package com.best.caltodocrud.infrastructure.persistence.jpa;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "daily_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class DailySummaryEntity {
+
+    @Id
+    @Column(name = "date", length = 10)
+    private String date; // yyyy-MM-dd
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "one_line", nullable = false, columnDefinition = "text")
+    private String oneLine;
+
+    @Column(name = "bullets", nullable = false, columnDefinition = "text")
+    private String bullets;
+
+    @Column(name = "risk_note", nullable = false, columnDefinition = "text")
+    private String riskNote;
+
+    @Column(name = "free_text", nullable = false, columnDefinition = "text")
+    private String freeText;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,63 @@
+package com.best.caltodocrud.infrastructure.persistence.jpa;
+
+import com.best.caltodocrud.application.port.out.DailySummaryRepositoryPort;
+import com.best.caltodocrud.domain.DailySummary;
+import com.best.caltodocrud.domain.SummaryResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class DailySummaryJpaAdapter implements DailySummaryRepositoryPort {
+
+    private final SpringDataDailySummaryRepository repo;
+
+    @Override
+    public Optional<DailySummary> findByDate(String date) {
+        return repo.findById(date).map(DailySummaryJpaAdapter::toDomain);
+    }
+
+    @Override
+    public List<DailySummary> findByDates(Collection<String> dates) {
+        return repo.findAllById(dates).stream().map(DailySummaryJpaAdapter::toDomain).toList();
+    }
+
+    @Override
+    public DailySummary save(DailySummary s) {
+        SummaryResult r = s.getSummary();
+        return toDomain(repo.save(DailySummaryEntity.builder()
+                .date(s.getDate())
+                .contentHash(s.getContentHash())
+                .title(r.getTitle())
+                .oneLine(r.getOneLine())
+                .bullets(r.getBullets())
+                .riskNote(r.getRiskNote())
+                .freeText(r.getFreeText())
+                .updatedAt(s.getUpdatedAt())
+                .build()));
+    }
+
+    @Override
+    public void deleteByDate(String date) {
+        repo.deleteById(date);
+    }
+
+    private static DailySummary toDomain(DailySummaryEntity e) {
+        return DailySummary.builder()
+                .date(e.getDate())
+                .contentHash(e.getContentHash())
+                .summary(SummaryResult.builder()
+                        .title(e.getTitle())
+                        .oneLine(e.getOneLine())
+                        .bullets(e.getBullets())
+                        .riskNote(e.getRiskNote())
+                        .freeText(e.getFreeText())
+                        .build())
+                .updatedAt(e.getUpdatedAt())
+                .build();
+    }
+}
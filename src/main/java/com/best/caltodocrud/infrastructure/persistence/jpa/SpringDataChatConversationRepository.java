@@ -2,6 +2,7 @@ package com.best.caltodocrud.infrastructure.persistence.jpa;
 
 import com.best.caltodocrud.domain.ChatConversation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,8 +19,8 @@ import java.util.UUID;
 @Repository
 public interface SpringDataChatConversationRepository extends JpaRepository<ChatConversationEntity, UUID> {
     
-    // 세션 ID로 조회
-    Optional<ChatConversationEntity> findBySessionIdAndStatus(
+    // 세션 ID로 조회 (한 세션에 대화가 여럿이면 가장 최근 대화)
+    Optional<ChatConversationEntity> findFirstBySessionIdAndStatusOrderByLastMessageAtDesc(
         String sessionId, 
         ChatConversation.ConversationStatus status
     );
@@ -36,15 +37,18 @@ public interface SpringDataChatConversationRepository extends JpaRepository<Chat
     );
     
     /**
-     * PostgreSQL의 JSONB 연산자를 사용한 검색
-     * messages 배열 내에서 특정 키워드 검색
+     * 메시지 본문에서 키워드 검색
      */
     @Query(value = """
         SELECT c.* FROM chat_conversations c
-        WHERE c.messages @> :searchJson::jsonb
+        WHERE EXISTS (
+            SELECT 1 FROM chat_messages m
+            WHERE m.conversation_id = c.id
+              AND m.content ILIKE CONCAT('%', :keyword, '%')
+        )
         ORDER BY c.last_message_at DESC
         """, nativeQuery = true)
-    List<ChatConversationEntity> searchInMessages(@Param("searchJson") String searchJson);
+    List<ChatConversationEntity> searchInMessages(@Param("keyword") String keyword);
 
     /**
      * 특정 주제가 논의된 대화 검색
@@ -74,10 +78,52 @@ public interface SpringDataChatConversationRepository extends JpaRepository<Chat
      * 요약 타입별 대화 검색
      */
     @Query(value = """
-        SELECT c.* FROM chat_conversations c, 
-        jsonb_array_elements(c.messages) msg
-        WHERE msg->'metadata'->>'summaryType' = :summaryType
+        SELECT c.* FROM chat_conversations c
+        WHERE EXISTS (
+            SELECT 1 FROM chat_messages m
+            WHERE m.conversation_id = c.id
+              AND m.metadata->>'summaryType' = :summaryType
+        )
         ORDER BY c.last_message_at DESC
         """, nativeQuery = true)
     List<ChatConversationEntity> findBySummaryType(@Param("summaryType") String summaryType);
+
+    /**
+     * 메시지 추가 시 대화 카운터를 행 안에서 바로 갱신
+     * 주제는 기존 순서를 유지하며 새 주제만 뒤에 붙이고, 주요 의도는 비어 있을 때만 채운다
+     * 누적 요약은 새 값이 있을 때만 교체하고, 요약된 메시지 수는 줄어들지 않는다
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE chat_conversations c
+        SET last_message_at = :lastMessageAt,
+            updated_at = :lastMessageAt,
+            metadata = COALESCE(c.metadata, CAST('{}' AS jsonb)) || jsonb_build_object(
+                'totalMessages', COALESCE(CAST(c.metadata->>'totalMessages' AS int), 0) + CAST(:messageCount AS int),
+                'totalTokensUsed', COALESCE(CAST(c.metadata->>'totalTokensUsed' AS int), 0) + CAST(:tokensUsed AS int),
+                'totalDurationMs', COALESCE(CAST(c.metadata->>'totalDurationMs' AS bigint), 0) + CAST(:durationMs AS bigint),
+                'topicsDiscussed', COALESCE(c.metadata->'topicsDiscussed', CAST('[]' AS jsonb)) || COALESCE((
+                    SELECT jsonb_agg(t.topic)
+                    FROM jsonb_array_elements_text(CAST(:topics AS jsonb)) AS t(topic)
+                    WHERE NOT jsonb_exists(COALESCE(c.metadata->'topicsDiscussed', CAST('[]' AS jsonb)), t.topic)
+                ), CAST('[]' AS jsonb)),
+                'primaryIntent', COALESCE(c.metadata->>'primaryIntent', CAST(:primaryIntent AS text)),
+                'runningSummary', COALESCE(CAST(:runningSummary AS text), c.metadata->>'runningSummary'),
+                'summarizedMessages', GREATEST(
+                    COALESCE(CAST(c.metadata->>'summarizedMessages' AS int), 0),
+                    COALESCE(CAST(:summarizedMessages AS int), 0))
+            )
+        WHERE c.id = :id
+        """, nativeQuery = true)
+    int appendCounters(
+        @Param("id") UUID id,
+        @Param("lastMessageAt") LocalDateTime lastMessageAt,
+        @Param("messageCount") int messageCount,
+        @Param("tokensUsed") int tokensUsed,
+        @Param("durationMs") long durationMs,
+        @Param("topics") String topicsJson,
+        @Param("primaryIntent") String primaryIntent,
+        @Param("runningSummary") String runningSummary,
+        @Param("summarizedMessages") Integer summarizedMessages
+    );
 }
@@ -0,0 +1,29 @@
+package com.best.caltodocrud.infrastructure.persistence.jpa;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository for ChatMessage
+ */
+@Repository
+public interface SpringDataChatMessageRepository extends JpaRepository<ChatMessageEntity, Long> {
+
+    List<ChatMessageEntity> findByConversationIdOrderByIdAsc(UUID conversationId);
+
+    /**
+     * 최근 메시지부터 limit개 (conversation_id, id) 인덱스를 역순으로 읽음
+     */
+    List<ChatMessageEntity> findByConversationIdOrderByIdDesc(UUID conversationId, Limit limit);
+
+    @Modifying
+    @Query("delete from ChatMessageEntity m where m.conversationId = :conversationId")
+    void deleteByConversationId(@Param("conversationId") UUID conversationId);
+}
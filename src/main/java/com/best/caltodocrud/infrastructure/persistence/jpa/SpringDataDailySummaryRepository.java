@@ -0,0 +1,6 @@
+package com.best.caltodocrud.infrastructure.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataDailySummaryRepository extends JpaRepository<DailySummaryEntity, String> {
+}
@@ -1,14 +1,99 @@
 package com.best.caltodocrud.infrastructure.persistence.jpa;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface SpringDataTodoRepository extends JpaRepository<TodoEntity, Long> {
-    List<TodoEntity> findByDateOrderByIdAsc(String date);
+    List<TodoEntity> findByDateOrderByIdAsc(LocalDate date);
 
     @Query("select t from TodoEntity t where t.date between :from and :to order by t.date asc, t.id asc")
-    List<TodoEntity> findRange(@Param("from") String from, @Param("to") String to);
+    List<TodoEntity> findRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * (date, id) 키셋 페이지 - (afterDate, afterId) 다음 행부터 to까지, (date, id) 인덱스 범위 스캔으로 limit개에서 멈춘다
+     * date >= afterDate는 중복 조건이지만 인덱스 범위의 시작점이 된다
+     * 엔티티가 아닌 프로젝션이라 영속성 컨텍스트에 쌓이지 않는다
+     */
+    @Query("""
+        select t.id as id, t.text as text, t.done as done, t.date as date
+        from TodoEntity t
+        where t.date >= :afterDate and t.date <= :to
+          and (t.date > :afterDate or t.id > :afterId)
+        order by t.date asc, t.id asc
+        """)
+    List<TodoRow> findRangeAfter(@Param("afterDate") LocalDate afterDate, @Param("afterId") long afterId,
+                                 @Param("to") LocalDate to, Limit limit);
+
+    /**
+     * 읽지 않고 바로 바꾸는 부분 수정 - null인 필드는 그대로 둔다
+     * UPDATE ... RETURNING 결과는 프로젝션으로 받는다 (엔티티로 받으면 같은 영속성 컨텍스트에 이미 있는
+     * TodoEntity가 수정 전 값 그대로 돌아온다). 아래 updateDone/updateDoneByDate도 같다
+     */
+    @Query(value = """
+        UPDATE todos
+        SET text = COALESCE(CAST(:text AS varchar), text),
+            done = COALESCE(CAST(:done AS boolean), done),
+            updated_at = now()
+        WHERE id = :id
+        RETURNING id, text, done, date
+        """, nativeQuery = true)
+    List<TodoRow> patch(@Param("id") Long id, @Param("text") String text, @Param("done") Boolean done);
+
+    /**
+     * id 목록의 완료 여부를 한 문장으로 변경 - 이미 그 상태인 행은 건드리지 않고, 바뀐 행만 돌려준다
+     */
+    @Query(value = """
+        UPDATE todos
+        SET done = :done, updated_at = now()
+        WHERE id = ANY(CAST(:ids AS bigint[]))
+          AND done <> :done
+        RETURNING id, text, done, date
+        """, nativeQuery = true)
+    List<TodoRow> updateDone(@Param("ids") Long[] ids, @Param("done") boolean done);
+
+    /**
+     * 하루치 할 일의 완료 여부를 한 문장으로 변경 - 바뀐 행만 돌려준다
+     */
+    @Query(value = """
+        UPDATE todos
+        SET done = :done, updated_at = now()
+        WHERE date = :date
+          AND done <> :done
+        RETURNING id, text, done, date
+        """, nativeQuery = true)
+    List<TodoRow> updateDoneByDate(@Param("date") LocalDate date, @Param("done") boolean done);
+
+    /**
+     * (date, text) 기준 일괄 upsert - 한 문장으로 넣고/바꾸고/그대로인 행까지 모두 돌려준다
+     * items: [{"text":..., "done":..., "date":"yyyy-MM-dd"}] (같은 (date, text)가 두 번 오면 안 됨)
+     * 완료 여부가 같은 기존 행은 갱신하지 않고(updated_at 유지) 문장 시작 시점의 값으로 돌려준다
+     * patch와 같은 이유로 프로젝션으로 받는다
+     */
+    @Query(value = """
+        WITH input AS (
+            SELECT i.text, i.done, i.date
+            FROM jsonb_to_recordset(CAST(:items AS jsonb)) AS i(text varchar, done boolean, date date)
+        ),
+        upserted AS (
+            INSERT INTO todos (text, done, date, created_at, updated_at)
+            SELECT text, done, date, now(), now() FROM input
+            ON CONFLICT (date, text) DO UPDATE
+                SET done = EXCLUDED.done, updated_at = EXCLUDED.updated_at
+                WHERE todos.done IS DISTINCT FROM EXCLUDED.done
+            RETURNING id, text, done, date
+        )
+        SELECT u.id, u.text, u.done, u.date FROM upserted u
+        UNION ALL
+        SELECT t.id, t.text, t.done, t.date
+        FROM todos t
+        JOIN input i ON t.date = i.date AND t.text = i.text
+        WHERE NOT EXISTS (SELECT 1 FROM upserted u WHERE u.id = t.id)
+        ORDER BY date, id
+        """, nativeQuery = true)
+    List<TodoRow> upsertAll(@Param("items") String itemsJson);
 }
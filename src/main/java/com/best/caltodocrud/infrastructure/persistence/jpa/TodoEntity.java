@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "todos", schema = "public")
+@Table(name = "todos", schema = "public", indexes = {
+    @Index(name = "idx_todos_date_id", columnList = "date, id")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uq_todos_date_text", columnNames = {"date", "text"})
+})
 @Getter
 @Setter(AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -23,8 +27,8 @@ public class TodoEntity {
     @Column(name = "done", nullable = false)
     private boolean done = false;  // Boolean -> boolean로 변경
 
-    @Column(name = "date", nullable = false, length = 10)
-    private String date; // yyyy-MM-dd
+    @Column(name = "date", nullable = false)
+    private java.time.LocalDate date;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private java.time.LocalDateTime createdAt;
@@ -17,6 +17,10 @@ final class TodoEntityMapper {
                 .build();
     }
 
+    static Todo toDomain(TodoRow r) {
+        return new Todo(r.getId(), r.getText(), r.isDone(), r.getDate());
+    }
+
     static Todo toDomain(TodoEntity e) {
         if (e == null) return null;
         return new Todo(
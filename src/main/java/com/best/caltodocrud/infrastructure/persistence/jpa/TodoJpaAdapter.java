@@ -2,17 +2,28 @@ package com.best.caltodocrud.infrastructure.persistence.jpa;
 
 import com.best.caltodocrud.application.port.out.TodoRepositoryPort;
 import com.best.caltodocrud.domain.Todo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Limit;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 모든 public 메서드를 db.todo 타이머로 측정 (class/method/exception 태그, TimedAspect)
+ */
 @Component
 @RequiredArgsConstructor
+@Timed(value = "db.todo", description = "할 일 저장소 호출 지연")
 public class TodoJpaAdapter implements TodoRepositoryPort {
 
     private final SpringDataTodoRepository repo;
+    private final ObjectMapper objectMapper;
 
     @Override
     public Todo save(Todo t) {
@@ -25,17 +36,60 @@ public class TodoJpaAdapter implements TodoRepositoryPort {
     }
 
     @Override
-    public List<Todo> findByDate(String date) {
+    public List<Todo> findByDate(LocalDate date) {
         return repo.findByDateOrderByIdAsc(date).stream().map(TodoEntityMapper::toDomain).toList();
     }
 
     @Override
-    public List<Todo> findRange(String from, String to) {
+    public List<Todo> findRange(LocalDate from, LocalDate to) {
         return repo.findRange(from, to).stream().map(TodoEntityMapper::toDomain).toList();
     }
 
+    @Override
+    public List<Todo> findRangeAfter(LocalDate afterDate, long afterId, LocalDate to, int limit) {
+        return repo.findRangeAfter(afterDate, afterId, to, Limit.of(limit)).stream()
+                .map(TodoEntityMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<Todo> patch(Long id, String text, Boolean done) {
+        return repo.patch(id, text, done).stream().findFirst().map(TodoEntityMapper::toDomain);
+    }
+
+    @Override
+    public List<Todo> updateDone(Collection<Long> ids, boolean done) {
+        if (ids.isEmpty()) return List.of();
+        return repo.updateDone(ids.toArray(Long[]::new), done).stream().map(TodoEntityMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Todo> updateDoneByDate(LocalDate date, boolean done) {
+        return repo.updateDoneByDate(date, done).stream().map(TodoEntityMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Todo> upsertAll(List<Todo> todos) {
+        if (todos.isEmpty()) return List.of();
+
+        List<UpsertItem> items = todos.stream()
+                .map(t -> new UpsertItem(t.getText(), t.isDone(), t.getDate()))
+                .toList();
+        try {
+            return repo.upsertAll(objectMapper.writeValueAsString(items)).stream()
+                    .map(TodoEntityMapper::toDomain)
+                    .toList();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize todos for upsert", e);
+        }
+    }
+
     @Override
     public void deleteById(Long id) {
         repo.deleteById(id);
     }
+
+    /** upsert 입력 한 행 (jsonb_to_recordset 컬럼과 이름이 같아야 함) */
+    record UpsertItem(String text, boolean done, LocalDate date) {
+    }
 }
@@ -0,0 +1,13 @@
+package com.best.caltodocrud.infrastructure.persistence.jpa;
+
+import java.time.LocalDate;
+
+/**
+ * 조회/UPDATE ... RETURNING 결과 프로젝션 (관리되는 엔티티를 만들지도, 재사용하지도 않음)
+ */
+public interface TodoRow {
+    Long getId();
+    String getText();
+    boolean isDone();
+    LocalDate getDate();
+}
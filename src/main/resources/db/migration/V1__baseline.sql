@@ -0,0 +1,29 @@
+-- 기존(Hibernate ddl-auto로 생성된) 스키마 기준선
+-- 이미 테이블이 있는 운영 DB에서도 그대로 통과하도록 IF NOT EXISTS 사용
+
+CREATE TABLE IF NOT EXISTS todos (
+    id         BIGSERIAL    PRIMARY KEY,
+    text       VARCHAR(200) NOT NULL,
+    done       BOOLEAN      NOT NULL,
+    date       VARCHAR(10)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS chat_conversations (
+    id              UUID         PRIMARY KEY,
+    session_id      VARCHAR(255) NOT NULL,
+    started_at      TIMESTAMP(6) NOT NULL,
+    last_message_at TIMESTAMP(6),
+    status          VARCHAR(255) NOT NULL,
+    messages        JSONB        NOT NULL DEFAULT '[]'::jsonb,
+    metadata        JSONB,
+    ai_responses    JSONB,
+    user_context    JSONB,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_session_id ON chat_conversations (session_id);
+CREATE INDEX IF NOT EXISTS idx_status ON chat_conversations (status);
+CREATE INDEX IF NOT EXISTS idx_started_at ON chat_conversations (started_at);
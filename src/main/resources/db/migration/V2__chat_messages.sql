@@ -0,0 +1,33 @@
+-- 대화 메시지를 JSONB 배열에서 행 단위 테이블로 분리
+-- 이후 한 턴은 chat_messages INSERT 2건 + chat_conversations 카운터 UPDATE 1건으로 끝난다
+
+CREATE TABLE chat_messages (
+    id              BIGSERIAL    PRIMARY KEY,
+    conversation_id UUID         NOT NULL REFERENCES chat_conversations (id) ON DELETE CASCADE,
+    message_id      VARCHAR(64)  NOT NULL,
+    role            VARCHAR(20)  NOT NULL,
+    content         TEXT         NOT NULL,
+    sent_at         TIMESTAMP(6) NOT NULL,
+    metadata        JSONB
+);
+
+CREATE INDEX idx_chat_messages_conversation ON chat_messages (conversation_id, id);
+
+-- 기존 대화의 messages 배열을 순서대로 풀어서 옮긴다 (id 순서 = 대화 순서)
+INSERT INTO chat_messages (conversation_id, message_id, role, content, sent_at, metadata)
+SELECT c.id,
+       COALESCE(m.value ->> 'id', gen_random_uuid()::text),
+       COALESCE(m.value ->> 'role', 'user'),
+       COALESCE(m.value ->> 'content', ''),
+       COALESCE((m.value ->> 'timestamp')::timestamp, c.started_at),
+       NULLIF(m.value -> 'metadata', 'null'::jsonb)
+FROM chat_conversations c
+CROSS JOIN LATERAL jsonb_array_elements(c.messages) WITH ORDINALITY AS m(value, ord)
+ORDER BY c.started_at, c.id, m.ord;
+
+-- 옮긴 뒤 카운터를 실제 행 수와 맞춘다
+UPDATE chat_conversations c
+SET metadata = COALESCE(c.metadata, '{}'::jsonb)
+               || jsonb_build_object('totalMessages', jsonb_array_length(c.messages));
+
+ALTER TABLE chat_conversations DROP COLUMN messages;
@@ -0,0 +1,14 @@
+-- 날짜별 요약 저장소: 할 일이 바뀐 날짜만 백그라운드에서 다시 요약하고,
+-- 기간 요약은 저장된 날짜별 요약을 모아 한 번의 병합 호출로 만든다
+-- content_hash = 그 날짜 할 일 목록(id/내용/완료/날짜)의 SHA-256, 현재 할 일과 다르면 오래된 요약
+
+CREATE TABLE IF NOT EXISTS daily_summaries (
+    date         VARCHAR(10)  PRIMARY KEY,
+    content_hash VARCHAR(64)  NOT NULL,
+    title        VARCHAR(200) NOT NULL,
+    one_line     TEXT         NOT NULL,
+    bullets      TEXT         NOT NULL,
+    risk_note    TEXT         NOT NULL,
+    free_text    TEXT         NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,10 @@
+-- todos.date를 VARCHAR(10) 문자열에서 DATE로 바꾸고 (date, id) 복합 인덱스를 만든다
+-- - 날짜 조회/기간 조회가 인덱스 범위 스캔 + id 순서로 끝나 정렬이 따로 필요 없다
+-- - 형 변환은 테이블을 다시 쓰며 ACCESS EXCLUSIVE 잠금을 잡으므로 큰 테이블은 점검 시간에 적용
+
+ALTER TABLE todos
+    ALTER COLUMN date TYPE DATE USING to_date(date, 'YYYY-MM-DD');
+
+CREATE INDEX IF NOT EXISTS idx_todos_date_id ON todos (date, id);
+
+ANALYZE todos;
@@ -0,0 +1,21 @@
+-- 같은 날짜의 같은 내용 할 일은 하나만 둔다 - /api/todos/sync가 (date, text)로 한 번에 upsert
+-- 기존 중복은 가장 먼저 만든 행만 남기고, 중복 중 하나라도 완료였으면 완료로 합친다
+
+UPDATE todos t
+SET done = true, updated_at = now()
+FROM (
+    SELECT date, text, min(id) AS keep_id
+    FROM todos
+    GROUP BY date, text
+    HAVING count(*) > 1 AND bool_or(done)
+) d
+WHERE t.id = d.keep_id
+  AND NOT t.done;
+
+DELETE FROM todos t
+USING todos k
+WHERE t.date = k.date
+  AND t.text = k.text
+  AND t.id > k.id;
+
+ALTER TABLE todos ADD CONSTRAINT uq_todos_date_text UNIQUE (date, text);
@@ -9,8 +9,15 @@ const bodyEl = document.getElementById('cbBody');
 // 접근성: 팝업 열릴 때 포커스 관리
 let lastActive = null;
 
-// 대화 히스토리(서버에 전달할 형식)
-const chatHistory = [];
+// 대화 id: 이전 대화는 서버가 보관하므로 새 메시지와 id만 보낸다 (탭을 닫기 전까지 유지)
+const CONVERSATION_KEY = 'cbConversationId';
+let conversationId = sessionStorage.getItem(CONVERSATION_KEY);
+
+function rememberConversation(id) {
+  if (!id || id === conversationId) return;
+  conversationId = id;
+  sessionStorage.setItem(CONVERSATION_KEY, id);
+}
 
 function detectApiOrigin() {
   try {
@@ -103,6 +110,85 @@ function scrollBodyToBottom() {
   bodyEl.scrollTop = bodyEl.scrollHeight;
 }
 
+// SSE 스트리밍 응답: 토큰이 도착하는 대로 말풍선에 이어 붙인다
+async function streamChat(message, aiBubble) {
+  const res = await fetch(resolveApiPath('/api/chat/stream'), {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json; charset=utf-8',
+      'Accept': 'text/event-stream'
+    },
+    body: JSON.stringify({ message, conversationId })
+  });
+  if (!res.ok || !res.body) throw new Error(`stream status ${res.status}`);
+
+  const reader = res.body.getReader();
+  const decoder = new TextDecoder('utf-8');
+  let buffer = '';
+  let reply = '';
+
+  while (true) {
+    const { value, done } = await reader.read();
+    if (done) break;
+    buffer += decoder.decode(value, { stream: true });
+
+    // 이벤트는 빈 줄로 구분된다
+    let sep;
+    while ((sep = buffer.indexOf('\n\n')) >= 0) {
+      const raw = buffer.slice(0, sep);
+      buffer = buffer.slice(sep + 2);
+
+      let event = 'message';
+      let data = '';
+      raw.split('\n').forEach((line) => {
+        if (line.startsWith('event:')) event = line.slice(6).trim();
+        else if (line.startsWith('data:')) data += line.slice(5);
+      });
+      if (!data) continue;
+
+      const payload = JSON.parse(data);
+      rememberConversation(payload.conversationId);
+      if (event === 'token') {
+        reply += payload.message ?? '';
+        aiBubble.textContent = reply;
+        scrollBodyToBottom();
+      } else if (event === 'error') {
+        aiBubble.textContent = payload.message;
+        return payload.message;
+      }
+    }
+  }
+  return reply || '응답이 비었습니다.';
+}
+
+// 블로킹 응답 (스트리밍을 쓸 수 없을 때)
+async function requestChat(message, aiBubble) {
+  const res = await fetch(resolveApiPath('/api/chat/message'), {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json; charset=utf-8',
+      'Accept': 'application/json; charset=utf-8'
+    },
+    body: JSON.stringify({ message, conversationId })
+  });
+
+  if (!res.ok) {
+    const text = await res.text().catch(() => '');
+    console.error('Chat API error', res.status, text);
+    aiBubble.textContent = '죄송합니다. 응답을 가져오지 못했습니다.';
+    return aiBubble.textContent;
+  }
+
+  const json = await res.json();
+  rememberConversation(json?.conversationId);
+  const reply = json?.message ?? '응답이 비었습니다.';
+  if (json?.success === false) {
+    console.warn('Chat response marked as failed:', json);
+  }
+  aiBubble.textContent = reply;
+  return reply;
+}
+
 async function sendChat() {
   const v = (inputEl?.value || '').trim();
   if (!v) return;
@@ -113,11 +199,6 @@ async function sendChat() {
   bodyEl.appendChild(userWrap);
   scrollBodyToBottom();
 
-  // 히스토리에 추가
-  chatHistory.push({ role: 'user', content: v, timestamp: Date.now() });
-  // 서버로 보낼 히스토리는 최근 n개로 자르기 (필요 시 조정)
-  const historyToSend = chatHistory.slice(-20);
-
   // 준비된 assistant placeholder
   const { wrap: aiWrap, bubble: aiBubble } = makeAssistantBubblePlaceholder();
   bodyEl.appendChild(aiWrap);
@@ -128,43 +209,17 @@ async function sendChat() {
   sendBtn.disabled = true;
 
   try {
-    const res = await fetch(resolveApiPath('/api/chat/message'), {
-      method: 'POST',
-      headers: {
-        'Content-Type': 'application/json; charset=utf-8',
-        'Accept': 'application/json; charset=utf-8'
-      },
-      body: JSON.stringify({ message: v, history: historyToSend })
-    });
-
-    if (!res.ok) {
-      const text = await res.text().catch(() => '');
-      console.error('Chat API error', res.status, text);
-      aiBubble.textContent = '죄송합니다. 응답을 가져오지 못했습니다.';
-      chatHistory.push({ role: 'assistant', content: aiBubble.textContent, timestamp: Date.now() });
-      return;
-    }
-
-    const json = await res.json();
-    console.log('Chat response:', json); // 디버깅용 로그
-    const reply = json?.message ?? '응답이 비었습니다.';
-    const success = json?.success ?? true;
-    
-    if (!success) {
-      console.warn('Chat response marked as failed:', json);
-    }
-    
-    aiBubble.textContent = reply;
-
-    // 히스토리 추가(assistant)
-    chatHistory.push({ role: 'assistant', content: reply, timestamp: json?.timestamp || Date.now() });
+    await streamChat(v, aiBubble)
+      .catch((err) => {
+        console.warn('Chat stream unavailable, falling back to /api/chat/message', err);
+        return requestChat(v, aiBubble);
+      });
 
     // 스크롤
     scrollBodyToBottom();
   } catch (err) {
     console.error('Network error while chatting', err);
     aiBubble.textContent = '네트워크 오류가 발생했습니다. 다시 시도해 주세요.';
-    chatHistory.push({ role: 'assistant', content: aiBubble.textContent, timestamp: Date.now() });
   } finally {
     inputEl.disabled = false;
     sendBtn.disabled = false;
@@ -188,13 +243,12 @@ inputEl?.addEventListener('keydown', (e) => {
   }
 });
 
-// 초기 히스토리: 환영 메시지 (선택적)
+// 환영 메시지 (화면 표시용, 서버 대화에는 포함되지 않음)
 (function initChatbot() {
   if (!bodyEl) return;
   const welcome = '안녕하세요! 캘린더 & 할 일 도우미입니다. 오늘 일정 요약이나 할 일 관리를 도와드릴게요.';
   const { wrap, bubble } = makeAssistantBubblePlaceholder();
   bubble.textContent = welcome;
   bodyEl.appendChild(wrap);
-  chatHistory.push({ role: 'assistant', content: welcome, timestamp: Date.now() });
   scrollBodyToBottom();
 })();
@@ -82,6 +82,15 @@ async function updateTodoOnServer(id, text, done) {
   });
 }
 
+// 바뀐 필드만 보냄 (예: { done: true })
+async function patchTodoOnServer(id, fields) {
+  return await apiFetch(`${API_BASE}/${id}`, {
+    method: 'PATCH',
+    headers: { 'Content-Type': 'application/json' },
+    body: JSON.stringify(fields)
+  });
+}
+
 async function deleteTodoOnServer(id) {
   return await apiFetch(`${API_BASE}/${id}`, { method: 'DELETE' });
 }
@@ -287,7 +296,7 @@ async function renderTodos() {
     row.querySelector('input[type="checkbox"]').addEventListener('change', async (e) => {
       const newDone = e.target.checked;
       try {
-        const res = await updateTodoOnServer(item.id, item.text, newDone);
+        const res = await patchTodoOnServer(item.id, { done: newDone });
         item.done = !!res.done;
       } catch (err) {
         // 실패하면 체크 상태 되돌리기
@@ -0,0 +1,154 @@
+package com.best.caltodocrud.infrastructure.persistence;
+
+import com.best.caltodocrud.domain.Todo;
+import com.best.caltodocrud.domain.event.TodoChangedEvent;
+import com.best.caltodocrud.infrastructure.persistence.jpa.TodoJpaAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingTodoRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 15);
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+
+    private TodoJpaAdapter delegate;
+    private CachingTodoRepository cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TodoJpaAdapter.class);
+        cache = new CachingTodoRepository(delegate, new SimpleMeterRegistry(), 1000, Duration.ofHours(1), 62);
+    }
+
+    @Test
+    void findByDate_readsDatabaseOnlyOnce() {
+        when(delegate.findByDate(DAY)).thenReturn(List.of(todo(1L, DAY)));
+
+        assertThat(cache.findByDate(DAY)).extracting(Todo::getId).containsExactly(1L);
+        assertThat(cache.findByDate(DAY)).extracting(Todo::getId).containsExactly(1L);
+
+        verify(delegate, times(1)).findByDate(DAY);
+    }
+
+    @Test
+    void save_sameDate_invalidatesWithoutError() {
+        Todo created = todo(1L, DAY);
+        when(delegate.findByDate(DAY)).thenReturn(List.of(), List.of(created));
+        when(delegate.save(any())).thenReturn(created);
+        cache.findByDate(DAY);
+
+        Todo saved = cache.save(new Todo(null, "new", false, DAY));
+
+        assertThat(saved).isSameAs(created);
+        assertThat(cache.findByDate(DAY)).containsExactly(created);
+        verify(delegate, times(2)).findByDate(DAY);
+    }
+
+    @Test
+    void patch_invalidatesPatchedDate() {
+        Todo patched = new Todo(1L, "todo", true, DAY);
+        when(delegate.findByDate(DAY)).thenReturn(List.of(todo(1L, DAY)), List.of(patched));
+        when(delegate.patch(1L, null, true)).thenReturn(Optional.of(patched));
+        cache.findByDate(DAY);
+
+        cache.patch(1L, null, true);
+
+        assertThat(cache.findByDate(DAY)).containsExactly(patched);
+    }
+
+    @Test
+    void patch_missingId_keepsCache() {
+        when(delegate.findByDate(DAY)).thenReturn(List.of(todo(1L, DAY)));
+        when(delegate.patch(9L, "x", null)).thenReturn(Optional.empty());
+        cache.findByDate(DAY);
+
+        cache.patch(9L, "x", null);
+        cache.findByDate(DAY);
+
+        verify(delegate, times(1)).findByDate(DAY);
+    }
+
+    @Test
+    void updateDone_invalidatesOnlyChangedDates() {
+        when(delegate.findByDate(DAY)).thenReturn(List.of(todo(1L, DAY)));
+        when(delegate.findByDate(NEXT_DAY)).thenReturn(List.of(todo(2L, NEXT_DAY)));
+        when(delegate.updateDone(List.of(2L), true)).thenReturn(List.of(new Todo(2L, "todo", true, NEXT_DAY)));
+        cache.findByDate(DAY);
+        cache.findByDate(NEXT_DAY);
+
+        cache.updateDone(List.of(2L), true);
+        cache.findByDate(DAY);
+        cache.findByDate(NEXT_DAY);
+
+        verify(delegate, times(1)).findByDate(DAY);
+        verify(delegate, times(2)).findByDate(NEXT_DAY);
+    }
+
+    @Test
+    void upsertAll_invalidatesInputDates() {
+        when(delegate.findByDate(DAY)).thenReturn(List.of());
+        when(delegate.upsertAll(any())).thenReturn(List.of(todo(1L, DAY)));
+        cache.findByDate(DAY);
+
+        cache.upsertAll(List.of(new Todo(null, "todo", false, DAY)));
+        cache.findByDate(DAY);
+
+        verify(delegate, times(2)).findByDate(DAY);
+    }
+
+    @Test
+    void deleteById_delegatesAndLeavesInvalidationToEvent() {
+        when(delegate.findByDate(DAY)).thenReturn(List.of(todo(1L, DAY)), List.of());
+        cache.findByDate(DAY);
+
+        cache.deleteById(1L);
+        verify(delegate).deleteById(1L);
+
+        cache.onTodoChanged(TodoChangedEvent.of(DAY));
+        assertThat(cache.findByDate(DAY)).isEmpty();
+        verify(delegate, times(2)).findByDate(DAY);
+    }
+
+    @Test
+    void findRange_loadsMissingDaysWithOneQuery() {
+        LocalDate to = DAY.plusDays(2);
+        when(delegate.findByDate(DAY)).thenReturn(List.of(todo(1L, DAY)));
+        when(delegate.findRange(NEXT_DAY, to)).thenReturn(List.of(todo(2L, NEXT_DAY), todo(3L, to)));
+        cache.findByDate(DAY);
+
+        List<Todo> range = cache.findRange(DAY, to);
+
+        assertThat(range).extracting(Todo::getId).containsExactly(1L, 2L, 3L);
+        verify(delegate, times(1)).findByDate(DAY);
+        verify(delegate, times(1)).findRange(NEXT_DAY, to);
+
+        // 모두 캐시되었으므로 다시 읽지 않는다
+        assertThat(cache.findRange(DAY, to)).extracting(Todo::getId).containsExactly(1L, 2L, 3L);
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void findRange_longerThanLimit_bypassesCache() {
+        LocalDate to = DAY.plusDays(100);
+        when(delegate.findRange(DAY, to)).thenReturn(List.of());
+
+        cache.findRange(DAY, to);
+        cache.findRange(DAY, to);
+
+        verify(delegate, times(2)).findRange(DAY, to);
+    }
+
+    private static Todo todo(Long id, LocalDate date) {
+        return new Todo(id, "todo", false, date);
+    }
+}